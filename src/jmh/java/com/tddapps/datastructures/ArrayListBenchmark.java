@@ -0,0 +1,220 @@
+package com.tddapps.datastructures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayListBenchmark {
+    /**
+     * Destructive bulk operations run over enough fresh copies to process this many elements
+     * per invocation, so even the smallest lists yield invocations long enough to time, and
+     * report the time per element processed.
+     */
+    static final int ELEMENTS_PER_INVOCATION = 10_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Lists {
+        @Param({"tddapps", "jdk"})
+        String implementation;
+
+        @Param({"10", "1000", "100000", "10000000"})
+        int size;
+
+        List<Integer> source;
+        List<Integer> filter;
+        HashSet<Integer> hashedFilter;
+        Integer missing;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            source = newList(implementation, size);
+            for (int i = 0; i < size; i++) {
+                source.add(i);
+            }
+
+            filter = newList(implementation, size / 10);
+            for (int i = 0; i < size; i += 10) {
+                filter.add(i);
+            }
+
+            hashedFilter = new HashSet<>(filter);
+            missing = -1;
+        }
+    }
+
+    /**
+     * A list that every benchmark using it leaves with the same contents, so it is only
+     * rebuilt once per iteration.
+     */
+    @State(Scope.Thread)
+    public static class MutableList {
+        List<Integer> list;
+
+        @Setup(Level.Iteration)
+        public void setUp(Lists lists) {
+            list = newList(lists.implementation, lists.size);
+            list.addAll(lists.source);
+        }
+    }
+
+    /**
+     * Fresh copies for the destructive bulk benchmarks. Rebuilt before every invocation,
+     * which is affordable because each invocation processes ELEMENTS_PER_INVOCATION elements.
+     */
+    @State(Scope.Thread)
+    public static class Copies {
+        List<Integer>[] lists;
+
+        @Setup(Level.Invocation)
+        public void setUp(Lists lists) {
+            this.lists = new List[Math.max(1, ELEMENTS_PER_INVOCATION / lists.size)];
+            for (int i = 0; i < this.lists.length; i++) {
+                this.lists[i] = newList(lists.implementation, lists.size);
+                this.lists[i].addAll(lists.source);
+            }
+        }
+    }
+
+    static List<Integer> newList(String implementation, int initialCapacity) {
+        switch (implementation) {
+            case "tddapps":
+                return new ArrayList<>(initialCapacity);
+            case "jdk":
+                return new java.util.ArrayList<>(initialCapacity);
+            case "tiered":
+                return new TieredList<>();
+            default:
+                throw new IllegalArgumentException("unknown implementation " + implementation);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> add(Lists lists) {
+        var l = newList(lists.implementation, 0);
+        for (int i = 0; i < lists.size; i++) {
+            l.add(i);
+        }
+        return l;
+    }
+
+    @Benchmark
+    public Integer addAtIndexAndRemove(MutableList mutable) {
+        int middle = mutable.list.size() / 2;
+        mutable.list.add(middle, -1);
+        return mutable.list.remove(middle);
+    }
+
+    @Benchmark
+    public List<Integer> addAll(Lists lists) {
+        var l = newList(lists.implementation, 0);
+        l.addAll(lists.source);
+        return l;
+    }
+
+    @Benchmark
+    public void get(Lists lists, Blackhole bh) {
+        var l = lists.source;
+        for (int i = 0; i < lists.size; i++) {
+            bh.consume(l.get(i));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> set(MutableList mutable) {
+        var l = mutable.list;
+        for (int i = 0; i < l.size(); i++) {
+            l.set(i, i);
+        }
+        return l;
+    }
+
+    @Benchmark
+    public int indexOfLast(Lists lists) {
+        return lists.source.indexOf(lists.size - 1);
+    }
+
+    @Benchmark
+    public int indexOfMissing(Lists lists) {
+        return lists.source.indexOf(lists.missing);
+    }
+
+    @Benchmark
+    public boolean removeObjectAndReinsert(MutableList mutable, Lists lists) {
+        Integer middle = lists.size / 2;
+        boolean removed = mutable.list.remove(middle);
+        mutable.list.add(middle, middle);
+        return removed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS_PER_INVOCATION)
+    public int removeAll(Copies copies, Lists lists) {
+        int changed = 0;
+        for (var l : copies.lists) {
+            changed += l.removeAll(lists.filter) ? 1 : 0;
+        }
+        return changed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS_PER_INVOCATION)
+    public int removeAllHashed(Copies copies, Lists lists) {
+        int changed = 0;
+        for (var l : copies.lists) {
+            changed += l.removeAll(lists.hashedFilter) ? 1 : 0;
+        }
+        return changed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS_PER_INVOCATION)
+    public int retainAll(Copies copies, Lists lists) {
+        int changed = 0;
+        for (var l : copies.lists) {
+            changed += l.retainAll(lists.filter) ? 1 : 0;
+        }
+        return changed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS_PER_INVOCATION)
+    public int removeIf(Copies copies) {
+        int changed = 0;
+        for (var l : copies.lists) {
+            changed += l.removeIf(i -> i % 10 == 0) ? 1 : 0;
+        }
+        return changed;
+    }
+
+    @Benchmark
+    public void iterate(Lists lists, Blackhole bh) {
+        for (Integer i : lists.source) {
+            bh.consume(i);
+        }
+    }
+
+    @Benchmark
+    public Object[] toArray(Lists lists) {
+        return lists.source.toArray();
+    }
+}
@@ -0,0 +1,169 @@
+package com.tddapps.datastructures;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free list for many concurrent producers. Elements live in fixed-size chunks
+ * referenced from a directory, so growing never copies existing elements. Producers
+ * reserve slots with a single fetch-and-add on the size and then publish into them.
+ * A slot that has been reserved but not yet published is waited for by readers,
+ * which is why nulls are not supported.
+ */
+public class AppendOnlyChunkedList<T> implements Iterable<T> {
+    static final int DEFAULT_CHUNK_SIZE = 1024;
+    private static final int INITIAL_DIRECTORY_LENGTH = 8;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicReference<AtomicReferenceArray<Object>[]> directory;
+
+    public AppendOnlyChunkedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public AppendOnlyChunkedList(int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("chunkSize must be a positive power of two");
+        }
+
+        chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        chunkMask = chunkSize - 1;
+        directory = new AtomicReference<>(new AtomicReferenceArray[INITIAL_DIRECTORY_LENGTH]);
+    }
+
+    /**
+     * Number of reserved slots, including the ones whose element is still being published.
+     */
+    public int size() {
+        return reserved.get();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean add(T t) {
+        Objects.requireNonNull(t);
+
+        int index = reserve(1);
+        publish(index, t);
+
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends T> c) {
+        var additions = c.toArray();
+
+        if (additions.length == 0) {
+            return false;
+        }
+
+        for (var e : additions) {
+            Objects.requireNonNull(e);
+        }
+
+        int start = reserve(additions.length);
+        for (int i = 0; i < additions.length; i++) {
+            publish(start + i, additions[i]);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the element at the position, waiting for its producer to publish it if needed.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        var chunk = chunk(index >>> chunkShift);
+        int offset = index & chunkMask;
+
+        Object result;
+        while ((result = chunk.get(offset)) == null) {
+            Thread.onSpinWait();
+        }
+
+        return (T) result;
+    }
+
+    public Object[] toArray() {
+        var result = new Object[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Iterates over the elements reserved when the iterator was created.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        int end = size();
+
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < end;
+            }
+
+            @Override
+            public T next() {
+                if (index >= end) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(index++);
+            }
+        };
+    }
+
+    private int reserve(int count) {
+        int start = reserved.getAndAdd(count);
+
+        if (start < 0 || start + count < 0) {
+            throw new IllegalStateException("list cannot hold more than " + Integer.MAX_VALUE + " elements");
+        }
+
+        return start;
+    }
+
+    private void publish(int index, Object element) {
+        chunk(index >>> chunkShift).set(index & chunkMask, element);
+    }
+
+    private AtomicReferenceArray<Object> chunk(int chunkIndex) {
+        while (true) {
+            var current = directory.get();
+
+            if (chunkIndex < current.length && current[chunkIndex] != null) {
+                return current[chunkIndex];
+            }
+
+            int length = current.length;
+            while (length <= chunkIndex) {
+                length <<= 1;
+            }
+
+            var grown = Arrays.copyOf(current, length);
+            grown[chunkIndex] = new AtomicReferenceArray<>(chunkMask + 1);
+
+            if (directory.compareAndSet(current, grown)) {
+                return grown[chunkIndex];
+            }
+        }
+    }
+}
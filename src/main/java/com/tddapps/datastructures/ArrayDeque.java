@@ -0,0 +1,386 @@
+package com.tddapps.datastructures;
+
+import java.util.AbstractCollection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A double ended queue stored in a circular buffer. The head index moves instead of the
+ * elements, so adding and removing at either end is O(1) amortized. Capacity follows a
+ * {@link CapacityPolicy} just like {@link ArrayList}. Nulls are not allowed because
+ * {@code poll} and {@code peek} use null to signal an empty deque.
+ */
+public class ArrayDeque<T> extends AbstractCollection<T> implements Deque<T> {
+    private final CapacityPolicy capacityPolicy;
+    private int head = 0;
+    private int size = 0;
+    private long changeOperationsCount = 0;
+    private Object[] data;
+
+    public ArrayDeque() {
+        this(ArrayList.DEFAULT_CAPACITY);
+    }
+
+    public ArrayDeque(int initialCapacity) {
+        this(initialCapacity, CapacityPolicy.halving());
+    }
+
+    public ArrayDeque(int initialCapacity, CapacityPolicy capacityPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity cannot be negative");
+        }
+
+        this.capacityPolicy = Objects.requireNonNull(capacityPolicy);
+        data = new Object[initialCapacity];
+    }
+
+    int capacity() {
+        return data.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void addFirst(T t) {
+        Objects.requireNonNull(t);
+        trackModification();
+
+        if (isFull()) {
+            growCapacity();
+        }
+
+        head = head == 0 ? capacity() - 1 : head - 1;
+        data[head] = t;
+        size++;
+    }
+
+    @Override
+    public void addLast(T t) {
+        Objects.requireNonNull(t);
+        trackModification();
+
+        if (isFull()) {
+            growCapacity();
+        }
+
+        data[physicalIndex(size)] = t;
+        size++;
+    }
+
+    @Override
+    public boolean offerFirst(T t) {
+        addFirst(t);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T t) {
+        addLast(t);
+        return true;
+    }
+
+    @Override
+    public T removeFirst() {
+        return requireElement(pollFirst());
+    }
+
+    @Override
+    public T removeLast() {
+        return requireElement(pollLast());
+    }
+
+    @Override
+    public T pollFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+
+        trackModification();
+
+        var result = data[head];
+        data[head] = null;
+        head = physicalIndex(1);
+        size--;
+
+        shrinkCapacity();
+        return (T) result;
+    }
+
+    @Override
+    public T pollLast() {
+        if (isEmpty()) {
+            return null;
+        }
+
+        trackModification();
+
+        int last = physicalIndex(size - 1);
+        var result = data[last];
+        data[last] = null;
+        size--;
+
+        shrinkCapacity();
+        return (T) result;
+    }
+
+    @Override
+    public T getFirst() {
+        return requireElement(peekFirst());
+    }
+
+    @Override
+    public T getLast() {
+        return requireElement(peekLast());
+    }
+
+    @Override
+    public T peekFirst() {
+        return isEmpty() ? null : (T) data[head];
+    }
+
+    @Override
+    public T peekLast() {
+        return isEmpty() ? null : (T) data[physicalIndex(size - 1)];
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (data[physicalIndex(i)].equals(o)) {
+                removeAt(i);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (data[physicalIndex(i)].equals(o)) {
+                removeAt(i);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean add(T t) {
+        addLast(t);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T t) {
+        return offerLast(t);
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(T t) {
+        addFirst(t);
+    }
+
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (data[physicalIndex(i)].equals(o)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        trackModification();
+
+        for (int i = 0; i < size; i++) {
+            data[physicalIndex(i)] = null;
+        }
+
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        var result = new Object[size];
+        copyTo(result);
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new DequeIterator(false);
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return new DequeIterator(true);
+    }
+
+    private boolean isFull() {
+        return size == capacity();
+    }
+
+    private void growCapacity() {
+        changeCapacity(capacityPolicy.grow(capacity(), size + 1));
+    }
+
+    private void shrinkCapacity() {
+        int newCapacity = capacityPolicy.shrink(capacity(), size);
+
+        if (newCapacity < capacity()) {
+            changeCapacity(newCapacity);
+        }
+    }
+
+    private void changeCapacity(int newCapacity) {
+        var newData = new Object[newCapacity];
+        copyTo(newData);
+        data = newData;
+        head = 0;
+    }
+
+    private void copyTo(Object[] target) {
+        int firstPart = Math.min(size, capacity() - head);
+        System.arraycopy(data, head, target, 0, firstPart);
+        System.arraycopy(data, 0, target, firstPart, size - firstPart);
+    }
+
+    private void removeAt(int index) {
+        trackModification();
+
+        if (index < size >> 1) {
+            for (int i = index; i > 0; i--) {
+                data[physicalIndex(i)] = data[physicalIndex(i - 1)];
+            }
+
+            data[head] = null;
+            head = physicalIndex(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                data[physicalIndex(i)] = data[physicalIndex(i + 1)];
+            }
+
+            data[physicalIndex(size - 1)] = null;
+        }
+
+        size--;
+        shrinkCapacity();
+    }
+
+    private int physicalIndex(int index) {
+        int result = head + index;
+        return result >= capacity() ? result - capacity() : result;
+    }
+
+    private T requireElement(T element) {
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+
+        return element;
+    }
+
+    private void trackModification() {
+        changeOperationsCount++;
+    }
+
+    private class DequeIterator implements Iterator<T> {
+        private final boolean descending;
+        private long initialState = changeOperationsCount;
+        private int index;
+        private int lastReturned = -1;
+
+        DequeIterator(boolean descending) {
+            this.descending = descending;
+            this.index = descending ? size - 1 : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            validateState();
+            return descending ? index >= 0 : index < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = index;
+            index += descending ? -1 : 1;
+            return (T) data[physicalIndex(lastReturned)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            validateState();
+            removeAt(lastReturned);
+
+            if (!descending) {
+                index = lastReturned;
+            }
+
+            lastReturned = -1;
+            initialState = changeOperationsCount;
+        }
+
+        private void validateState() {
+            if (initialState != changeOperationsCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -1,24 +1,23 @@
 package com.tddapps.datastructures;
 
-import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.function.Supplier;
+import java.util.NoSuchElementException;
 
 class ArrayIterator<T> implements Iterator<T> {
     private final int size;
     private final Object[] data;
+    private final ArrayList<?> owner;
     private final long initialState;
-    private final Supplier<Long> stateReader;
     private int index = 0;
 
     public ArrayIterator(Object[] data, int size){
         this(data, size, null);
     }
 
-    public ArrayIterator(Object[] data, int size, Supplier<Long> stateReader){
+    public ArrayIterator(Object[] data, int size, ArrayList<?> owner){
         this.data = data;
         this.size = size;
-        this.stateReader = stateReader;
+        this.owner = owner;
         initialState = readState();
     }
 
@@ -31,21 +30,25 @@ class ArrayIterator<T> implements Iterator<T> {
     @Override
     public T next() {
         validateState();
+
+        if (index >= size) {
+            throw new NoSuchElementException();
+        }
+
         return (T)data[index++];
     }
 
     private void validateState(){
-        long currentState = readState();
-        if (initialState != currentState){
-            throw new ConcurrentModificationException();
+        if (initialState != readState()){
+            throw owner.concurrentModification();
         }
     }
 
     private long readState(){
-        if (stateReader == null){
+        if (owner == null){
             return 0;
         }
 
-        return stateReader.get();
+        return owner.changeOperationsCount();
     }
 }
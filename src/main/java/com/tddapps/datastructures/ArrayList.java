@@ -1,40 +1,132 @@
 package com.tddapps.datastructures;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public class ArrayList<T> implements List<T> {
     static final int DEFAULT_CAPACITY = 10;
     private static final int NOT_FOUND = -1;
+    private static final int HASH_LOOKUP_THRESHOLD = 16;
 
     private int size = 0;
     private long changeOperationsCount = 0;
+    private final CapacityPolicy capacityPolicy;
+    private final StoragePool storagePool;
+    private final ArrayListMetrics metrics;
     private Object[] data;
+    private int sharedLength = 0;
+    private int pinnedCount = 0;
+    private PositionIndex lookupIndex;
 
     public ArrayList() {
         this(DEFAULT_CAPACITY);
     }
 
     public ArrayList(int initialCapacity) {
+        this(initialCapacity, CapacityPolicy.halving());
+    }
+
+    public ArrayList(CapacityPolicy capacityPolicy) {
+        this(DEFAULT_CAPACITY, capacityPolicy);
+    }
+
+    public ArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        this(initialCapacity, capacityPolicy, StoragePool.none());
+    }
+
+    /**
+     * Takes every backing array from the storage pool and returns replaced arrays to it,
+     * except arrays still shared with a {@link #snapshot()}.
+     */
+    public ArrayList(int initialCapacity, CapacityPolicy capacityPolicy, StoragePool storagePool) {
+        this(initialCapacity, capacityPolicy, storagePool, ArrayListMetrics.none());
+    }
+
+    /**
+     * Reports resizes, linear scans and fail-fast violations to metrics.
+     */
+    public ArrayList(int initialCapacity, CapacityPolicy capacityPolicy, StoragePool storagePool, ArrayListMetrics metrics) {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("initialCapacity cannot be negative");
         }
 
-        data = new Object[initialCapacity];
+        this.capacityPolicy = Objects.requireNonNull(capacityPolicy);
+        this.storagePool = Objects.requireNonNull(storagePool);
+        this.metrics = Objects.requireNonNull(metrics);
+        data = storagePool.acquire(initialCapacity);
     }
 
     int capacity() {
         return data.length;
     }
 
+    long changeOperationsCount() {
+        return changeOperationsCount;
+    }
+
+    ConcurrentModificationException concurrentModification() {
+        metrics.onConcurrentModification();
+        return new ConcurrentModificationException();
+    }
+
     private int available() {
         return capacity() - size;
     }
 
+    /**
+     * Grows the backing array, following the capacity policy, so it holds at least minCapacity elements.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            trackModification();
+            changeCapacity(capacityPolicy.grow(capacity(), minCapacity) - capacity(), "ensureCapacity");
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (size < capacity()) {
+            trackModification();
+            changeCapacity(size - capacity(), "trimToSize");
+        }
+    }
+
+    /**
+     * Keeps a hash index from each element to its first position, turning contains, indexOf,
+     * remove(Object) and containsAll into O(1) expected lookups at the cost of extra memory and
+     * bookkeeping on every modification. Elements must not change their hashCode while indexed.
+     */
+    public void enableLookupIndex() {
+        if (lookupIndex == null) {
+            lookupIndex = new PositionIndex();
+            lookupIndex.rebuild(data, size);
+        }
+    }
+
+    public void disableLookupIndex() {
+        lookupIndex = null;
+    }
+
     @Override
     public int size() {
         return size;
@@ -56,8 +148,15 @@ public class ArrayList<T> implements List<T> {
     public T set(int index, T element) {
         validateIndexIsWithinBounds(index);
 
+        prepareWriteFrom(index);
+
         var result = data[index];
         data[index] = element;
+
+        if (lookupIndex != null) {
+            lookupIndex.onSet(result, element, index, data, size);
+        }
+
         return (T)result;
     }
 
@@ -66,31 +165,51 @@ public class ArrayList<T> implements List<T> {
         trackModification();
 
         if (isFull()) {
-            doubleCapacity();
+            growCapacityToFit(1, "add");
         }
 
+        prepareWriteFrom(size);
         data[size++] = t;
 
+        if (lookupIndex != null) {
+            lookupIndex.onAppend(t, size - 1);
+        }
+
         return true;
     }
 
     @Override
     public void add(int index, T element) {
-        if (index < 0 || index > size) {
-            throw new IndexOutOfBoundsException(index);
-        }
+        validateIndexIsWithinInsertionBounds(index);
+        trackModification();
 
         if (isFull()) {
-            doubleCapacity();
+            growCapacityToFit(1, "add");
         }
 
-        shiftRightAt(0);
+        prepareWriteFrom(index);
+        shiftRightAt(index);
         data[index] = element;
         size++;
+
+        if (lookupIndex != null) {
+            lookupIndex.onInsert(element, index);
+        }
     }
 
     @Override
     public boolean addAll(Collection<? extends T> c) {
+        var event = new BulkOperationEvent();
+        event.begin();
+        int sizeBefore = size;
+
+        boolean result = appendAll(c);
+
+        event.report("addAll", sizeBefore, c.size(), size);
+        return result;
+    }
+
+    private boolean appendAll(Collection<? extends T> c) {
         trackModification();
         int additionsCount = c.size();
 
@@ -99,19 +218,60 @@ public class ArrayList<T> implements List<T> {
         }
 
         if (isFull(additionsCount)) {
-            growCapacityToFit(additionsCount);
+            growCapacityToFit(additionsCount, "addAll");
         }
 
+        prepareWriteFrom(size);
+
         for (T i : c) {
             data[size++] = i;
         }
 
+        if (lookupIndex != null) {
+            for (int i = size - additionsCount; i < size; i++) {
+                lookupIndex.onAppend(data[i], i);
+            }
+        }
+
         return true;
     }
 
     @Override
     public boolean addAll(int index, Collection<? extends T> c) {
-        return false;
+        validateIndexIsWithinInsertionBounds(index);
+
+        var event = new BulkOperationEvent();
+        event.begin();
+        int sizeBefore = size;
+
+        var additions = c.toArray();
+        boolean result = insertAll(index, additions);
+
+        event.report("addAll", sizeBefore, additions.length, size);
+        return result;
+    }
+
+    private boolean insertAll(int index, Object[] additions) {
+        trackModification();
+
+        int additionsCount = additions.length;
+
+        if (additionsCount == 0) {
+            return false;
+        }
+
+        if (isFull(additionsCount)) {
+            growCapacityToFit(additionsCount, "addAll");
+        }
+
+        prepareWriteFrom(index);
+        shiftRightAt(index, additionsCount);
+        System.arraycopy(additions, 0, data, index, additionsCount);
+        size += additionsCount;
+
+        rebuildLookupIndex();
+
+        return true;
     }
 
     @Override
@@ -121,18 +281,16 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public int indexOf(Object o) {
-        for (int i = 0; i < size; i++) {
-            if (containsObjectAt(o, i)) {
-                return i;
-            }
+        if (lookupIndex != null) {
+            return lookupIndex.firstIndexOf(o);
         }
 
-        return NOT_FOUND;
+        return indexOfRange(o, 0, size);
     }
 
     @Override
     public int lastIndexOf(Object o) {
-        return 0;
+        return lastIndexOfRange(o, 0, size);
     }
 
     @Override
@@ -152,17 +310,205 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return new ArrayIterator<>(data, size, () -> changeOperationsCount);
+        return new ArrayIterator<>(data, size, this);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        long initialState = changeOperationsCount;
+        var elements = data;
+        int end = size;
+
+        for (int i = 0; i < end && initialState == changeOperationsCount; i++) {
+            action.accept((T)elements[i]);
+        }
+
+        validateStateIs(initialState);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        sortRange(0, size, c);
+    }
+
+    /**
+     * Sorts like {@link #sort(Comparator)}, splitting large lists across the common fork/join pool.
+     */
+    public void parallelSort(Comparator<? super T> c) {
+        trackModification();
+        long initialState = changeOperationsCount;
+        prepareWriteFrom(0);
+
+        pinnedCount++;
+        try {
+            Arrays.parallelSort((T[])data, 0, size, c);
+        } finally {
+            pinnedCount--;
+        }
+
+        validateStateIs(initialState);
+        rebuildLookupIndex();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        long initialState = changeOperationsCount;
+        prepareWriteFrom(0);
+
+        pinnedCount++;
+        try {
+            for (int i = 0; i < size && initialState == changeOperationsCount; i++) {
+                data[i] = operator.apply((T)data[i]);
+            }
+        } finally {
+            pinnedCount--;
+        }
+
+        validateStateIs(initialState);
+        trackModification();
+        rebuildLookupIndex();
+    }
+
+    /**
+     * Replaces like {@link #replaceAll(UnaryOperator)}, applying the operator to chunks of a
+     * large list in parallel. The operator must be safe to call from several threads.
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+
+        if (size <= ParallelArrays.SEQUENTIAL_THRESHOLD) {
+            replaceAll(operator);
+            return;
+        }
+
+        long initialState = changeOperationsCount;
+        prepareWriteFrom(0);
+
+        pinnedCount++;
+        try {
+            ParallelArrays.replaceAll(data, size, operator);
+        } finally {
+            pinnedCount--;
+        }
+
+        validateStateIs(initialState);
+        trackModification();
+        rebuildLookupIndex();
+    }
+
+    /**
+     * Evaluates the filter once per element before touching the list, then compacts the
+     * survivors in a single pass. A throwing filter leaves the list unchanged.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+
+        long initialState = changeOperationsCount;
+        long[] marks;
+
+        pinnedCount++;
+        try {
+            marks = ParallelArrays.mark(data, size, filter);
+        } finally {
+            pinnedCount--;
+        }
+
+        validateStateIs(initialState);
+
+        return removeWhere(marks, "removeIf");
+    }
+
+    /**
+     * Removes like {@link #removeIf(Predicate)}, evaluating the filter on chunks of a large
+     * list in parallel before compacting it. The filter must be safe to call from several threads.
+     */
+    public boolean parallelRemoveIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+
+        if (size <= ParallelArrays.SEQUENTIAL_THRESHOLD) {
+            return removeIf(filter);
+        }
+
+        long initialState = changeOperationsCount;
+        long[] marks;
+
+        pinnedCount++;
+        try {
+            marks = ParallelArrays.markParallel(data, size, filter);
+        } finally {
+            pinnedCount--;
+        }
+
+        validateStateIs(initialState);
+
+        return removeWhere(marks, "removeIf");
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(this);
+    }
+
+    Object[] elementData() {
+        return data;
+    }
+
+    boolean recyclesStorage() {
+        return storagePool != StoragePool.none();
+    }
+
+    /**
+     * Returns an immutable view of the current elements in O(1). The view shares the
+     * backing array, which is only copied when this list next writes into the shared range.
+     */
+    public List<T> snapshot() {
+        sharedLength = Math.max(sharedLength, size);
+        return new ArraySnapshot<>(data, size);
+    }
+
+    /**
+     * Streams the elements to the channel in the {@link BinaryListFormat} layout.
+     */
+    public void writeTo(WritableByteChannel channel, FixedWidthCodec<? super T> codec) throws IOException {
+        writeTo(channel, codec, false);
+    }
+
+    /**
+     * Streams the elements to the channel, optionally collapsing runs of equal elements
+     * into a single record.
+     */
+    public void writeTo(WritableByteChannel channel, FixedWidthCodec<? super T> codec, boolean compressRuns) throws IOException {
+        pinnedCount++;
+        try {
+            BinaryListFormat.write(data, size, channel, codec, compressRuns);
+        } finally {
+            pinnedCount--;
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo}, allocating the backing array once from the header.
+     */
+    public static <T> ArrayList<T> readFrom(ReadableByteChannel channel, FixedWidthCodec<T> codec) throws IOException {
+        var result = new ArrayList<T>(0);
+        result.data = BinaryListFormat.read(channel, codec);
+        result.size = result.data.length;
+        return result;
     }
 
     @Override
     public ListIterator<T> listIterator() {
-        return null;
+        return listIterator(0);
     }
 
     @Override
     public ListIterator<T> listIterator(int index) {
-        return null;
+        validateIndexIsWithinInsertionBounds(index);
+
+        return new ArrayListIterator<>(this, index);
     }
 
     @Override
@@ -186,7 +532,9 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
-        return null;
+        validateRange(fromIndex, toIndex, size);
+
+        return new SubList(null, fromIndex, toIndex - fromIndex);
     }
 
     @Override
@@ -199,107 +547,71 @@ public class ArrayList<T> implements List<T> {
 
         trackModification();
 
-        shiftLeftAt(index);
-        size--;
-
-        if (isLessThanHalfFull()) {
-            halveCapacity();
-        }
+        removeAt(index);
 
         return true;
     }
 
     @Override
     public T remove(int index) {
-        return null;
+        validateIndexIsWithinBounds(index);
+        trackModification();
+
+        var result = data[index];
+        removeAt(index);
+
+        return (T)result;
     }
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        var indexesToRemove = new ArrayList<Integer>(size);
-
-        for (Object o : c) {
-            for (int i = 0; i < size; i++) {
-                if (containsObjectAt(o, i)) {
-                    indexesToRemove.add(i);
-                }
-            }
-        }
+        var event = new BulkOperationEvent();
+        event.begin();
+        int sizeBefore = size;
 
-        if (indexesToRemove.isEmpty()) {
-            return false;
-        }
+        boolean result = removeMatching(c, false);
 
-        trackModification();
-
-        var indexes = indexesToRemove
-                .stream()
-                .distinct()
-                .sorted()
-                .toArray(Integer[]::new);
-
-        for (int i = indexes.length - 1; i >= 0; i--) {
-            var index = indexes[i];
-            shiftLeftAt(index);
-            size--;
-        }
-
-        if (isLessThanHalfFull()) {
-            halveCapacity();
-        }
-
-        return true;
+        event.report("removeAll", sizeBefore, c.size(), size);
+        return result;
     }
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        var indexesToPreserve = new ArrayList<Integer>(size);
+        var event = new BulkOperationEvent();
+        event.begin();
+        int sizeBefore = size;
 
-        for (Object o : c) {
-            for (int i = 0; i < size; i++) {
-                if (containsObjectAt(o, i)) {
-                    indexesToPreserve.add(i);
-                }
-            }
-        }
+        boolean result = removeMatching(c, true);
 
-        var indexes = indexesToPreserve
-                .stream()
-                .distinct()
-                .sorted()
-                .toArray(Integer[]::new);
+        event.report("retainAll", sizeBefore, c.size(), size);
+        return result;
+    }
 
-        if (indexes.length == size) {
-            return false;
-        }
+    @Override
+    public void clear() {
+        clear(false);
+    }
 
+    /**
+     * Removes every element. Keeps the current capacity for reuse, or when releaseStorage
+     * is set, hands the backing array back to the storage pool and drops to zero capacity.
+     */
+    public void clear(boolean releaseStorage) {
         trackModification();
 
-        for (int i = 0; i < indexes.length - 1; i++) {
-            var currIdx = indexes[i];
-            var nextIdx = indexes[i + 1];
-            var diff = nextIdx - currIdx;
-            if (diff > 1) {
-                var shiftStartIndex = currIdx + 1;
-                var shiftSize = diff - 1;
-                shiftLeftAt(shiftStartIndex, shiftSize);
-                decrementBy(indexes, shiftSize);
-            }
+        if (releaseStorage) {
+            replaceData(storagePool.acquire(0));
+        } else if (sharedLength > 0) {
+            replaceData(storagePool.acquire(capacity()));
+        } else {
+            Arrays.fill(data, 0, size, null);
         }
 
-        size = indexes.length;
+        size = 0;
 
-        if (isLessThanHalfFull()) {
-            halveCapacity();
+        if (lookupIndex != null) {
+            lookupIndex.clear();
         }
-
-        return true;
-    }
-
-    @Override
-    public void clear() {
-        trackModification();
-        size = 0;
     }
 
     @Override
@@ -360,27 +672,134 @@ public class ArrayList<T> implements List<T> {
         return available() < additionalCount;
     }
 
-    private boolean isLessThanHalfFull() {
-        return available() > size;
+    private void growCapacityToFit(int additionalCount, String trigger) {
+        int newCapacity = capacityPolicy.grow(capacity(), size + additionalCount);
+        changeCapacity(newCapacity - capacity(), trigger);
     }
 
-    private void growCapacityToFit(int additionalCount) {
-        changeCapacity(additionalCount - available());
-    }
+    private void shrinkCapacity(String trigger) {
+        int newCapacity = capacityPolicy.shrink(capacity(), size);
 
-    private void doubleCapacity() {
-        changeCapacity(Math.max(1, capacity()));
+        if (newCapacity < capacity()) {
+            changeCapacity(newCapacity - capacity(), trigger);
+        }
     }
 
-    private void halveCapacity() {
-        int half = capacity() >> 1;
-        changeCapacity(-half);
-    }
+    private void changeCapacity(int delta, String trigger) {
+        var event = new CapacityChangeEvent();
+        event.begin();
 
-    private void changeCapacity(int delta) {
-        var newData = new Object[capacity() + delta];
+        int oldCapacity = capacity();
+        var newData = storagePool.acquire(oldCapacity + delta);
         System.arraycopy(data, 0, newData, 0, size);
+        replaceData(newData);
+
+        metrics.onResize(oldCapacity, capacity(), size);
+        event.report(oldCapacity, capacity(), size, trigger);
+    }
+
+    /**
+     * Recycles the current array unless a snapshot shares it or a bulk operation running
+     * caller code (a comparator, predicate, operator or codec) may still be reading it.
+     */
+    private void replaceData(Object[] newData) {
+        if (sharedLength == 0 && pinnedCount == 0) {
+            storagePool.release(data);
+        }
+
         data = newData;
+        sharedLength = 0;
+    }
+
+    private void prepareWriteFrom(int index) {
+        if (index < sharedLength) {
+            changeCapacity(0, "copyOnWrite");
+        }
+    }
+
+    private boolean removeMatching(Collection<?> c, boolean retain) {
+        var lookup = membershipLookup(c);
+
+        pinnedCount++;
+        try {
+            return removeWhere(e -> lookup.contains(e) != retain, retain ? "retainAll" : "removeAll");
+        } finally {
+            pinnedCount--;
+        }
+    }
+
+    private boolean removeWhere(Predicate<Object> shouldRemove, String trigger) {
+        int read = 0;
+        while (read < size && !shouldRemove.test(data[read])) {
+            read++;
+        }
+
+        if (read == size) {
+            return false;
+        }
+
+        trackModification();
+        prepareWriteFrom(read);
+
+        int write = read;
+        for (read++; read < size; read++) {
+            var e = data[read];
+            if (!shouldRemove.test(e)) {
+                data[write++] = e;
+            }
+        }
+
+        truncateTo(write, trigger);
+
+        return true;
+    }
+
+    private boolean removeWhere(long[] marks, String trigger) {
+        int read = 0;
+        while (read < size && !ParallelArrays.isMarked(marks, read)) {
+            read++;
+        }
+
+        if (read == size) {
+            return false;
+        }
+
+        trackModification();
+        prepareWriteFrom(read);
+
+        int write = read;
+        for (read++; read < size; read++) {
+            if (!ParallelArrays.isMarked(marks, read)) {
+                data[write++] = data[read];
+            }
+        }
+
+        truncateTo(write, trigger);
+
+        return true;
+    }
+
+    private void truncateTo(int newSize, String trigger) {
+        Arrays.fill(data, newSize, size, null);
+        size = newSize;
+
+        rebuildLookupIndex();
+
+        shrinkCapacity(trigger);
+    }
+
+    private Collection<?> membershipLookup(Collection<?> c) {
+        if (c.size() <= HASH_LOOKUP_THRESHOLD || c instanceof Set) {
+            return c;
+        }
+
+        return new HashSet<>(c);
+    }
+
+    private void rebuildLookupIndex() {
+        if (lookupIndex != null) {
+            lookupIndex.rebuild(data, size);
+        }
     }
 
     private boolean containsObjectAt(Object o, int index) {
@@ -389,10 +808,85 @@ public class ArrayList<T> implements List<T> {
                 (e != null && e.equals(o));
     }
 
-    private void decrementBy(Integer[] arr, int value) {
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] -= value;
+    private int indexOfRange(Object o, int from, int to) {
+        var event = new LongScanEvent();
+        event.begin();
+
+        int result = NOT_FOUND;
+        for (int i = from; i < to; i++) {
+            if (containsObjectAt(o, i)) {
+                result = i;
+                break;
+            }
+        }
+
+        int scanned = result == NOT_FOUND ? to - from : result - from + 1;
+        metrics.onScan(scanned);
+        event.report("indexOf", size, scanned, result != NOT_FOUND);
+
+        return result;
+    }
+
+    private int lastIndexOfRange(Object o, int from, int to) {
+        var event = new LongScanEvent();
+        event.begin();
+
+        int result = NOT_FOUND;
+        for (int i = to - 1; i >= from; i--) {
+            if (containsObjectAt(o, i)) {
+                result = i;
+                break;
+            }
+        }
+
+        int scanned = result == NOT_FOUND ? to - from : to - result;
+        metrics.onScan(scanned);
+        event.report("lastIndexOf", size, scanned, result != NOT_FOUND);
+
+        return result;
+    }
+
+    private void removeRange(int from, int to) {
+        if (from == to) {
+            return;
+        }
+
+        trackModification();
+        prepareWriteFrom(from);
+
+        int count = to - from;
+        shiftLeftAt(from, count);
+        truncateTo(size - count, "removeRange");
+    }
+
+    private void sortRange(int from, int to, Comparator<? super T> c) {
+        trackModification();
+        long initialState = changeOperationsCount;
+        prepareWriteFrom(from);
+
+        pinnedCount++;
+        try {
+            Arrays.sort((T[])data, from, to, c);
+        } finally {
+            pinnedCount--;
         }
+
+        validateStateIs(initialState);
+        rebuildLookupIndex();
+    }
+
+    private void removeAt(int index) {
+        var removed = data[index];
+
+        prepareWriteFrom(index);
+        shiftLeftAt(index);
+        data[--size] = null;
+
+        if (lookupIndex != null) {
+            lookupIndex.onRemove(removed, index, data, size);
+        }
+
+        shrinkCapacity("remove");
     }
 
     private void shiftLeftAt(int index) {
@@ -400,9 +894,7 @@ public class ArrayList<T> implements List<T> {
     }
 
     private void shiftLeftAt(int index, int count) {
-        for (int i = index + count; i < size; i++) {
-            data[i - count] = data[i];
-        }
+        System.arraycopy(data, index + count, data, index, size - index - count);
     }
 
     private void shiftRightAt(int index){
@@ -410,18 +902,188 @@ public class ArrayList<T> implements List<T> {
     }
 
     private void shiftRightAt(int index, int count){
-        for (int i = size - 1; i >= index; i--) {
-            data[i + count] = data[i];
-        }
+        System.arraycopy(data, index, data, index + count, size - index);
     }
 
     private void trackModification() {
         changeOperationsCount++;
     }
 
+    private void validateStateIs(long expectedState) {
+        if (changeOperationsCount != expectedState) {
+            throw concurrentModification();
+        }
+    }
+
     private void validateIndexIsWithinBounds(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException(index);
         }
     }
+
+    private void validateIndexIsWithinInsertionBounds(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private static void validateRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(fromIndex);
+        }
+
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException(toIndex);
+        }
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+    }
+
+    /**
+     * Live view over [offset, offset + size) of the backing array. Reads and range operations
+     * work directly on the parent's storage; structural changes made through the view are
+     * propagated up to every enclosing view, while changes made elsewhere make the view fail-fast.
+     */
+    private class SubList extends AbstractList<T> implements RandomAccess {
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private long expectedState;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedState = changeOperationsCount;
+        }
+
+        @Override
+        public int size() {
+            validateState();
+            return size;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            validateState();
+
+            return (T)data[offset + index];
+        }
+
+        @Override
+        public T set(int index, T element) {
+            Objects.checkIndex(index, size);
+            validateState();
+
+            return ArrayList.this.set(offset + index, element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            Objects.checkIndex(index, size + 1);
+            validateState();
+
+            ArrayList.this.add(offset + index, element);
+            onStructuralChange(1);
+        }
+
+        @Override
+        public T remove(int index) {
+            Objects.checkIndex(index, size);
+            validateState();
+
+            var result = ArrayList.this.remove(offset + index);
+            onStructuralChange(-1);
+            return result;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            validateState();
+
+            ArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            onStructuralChange(fromIndex - toIndex);
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, size());
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) != NOT_FOUND;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            validateState();
+
+            int index = indexOfRange(o, offset, offset + size);
+            return index == NOT_FOUND ? NOT_FOUND : index - offset;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            validateState();
+
+            int index = lastIndexOfRange(o, offset, offset + size);
+            return index == NOT_FOUND ? NOT_FOUND : index - offset;
+        }
+
+        @Override
+        public Object[] toArray() {
+            validateState();
+
+            return Arrays.copyOfRange(data, offset, offset + size);
+        }
+
+        @Override
+        public <E> E[] toArray(E[] a) {
+            validateState();
+
+            if (a.length < size) {
+                return (E[])Arrays.copyOfRange(data, offset, offset + size, a.getClass());
+            }
+
+            System.arraycopy(data, offset, a, 0, size);
+            if (a.length > size) {
+                a[size] = null;
+            }
+
+            return a;
+        }
+
+        @Override
+        public void sort(Comparator<? super T> c) {
+            validateState();
+
+            sortRange(offset, offset + size, c);
+            onStructuralChange(0);
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            validateRange(fromIndex, toIndex, size());
+
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        private void onStructuralChange(int sizeDelta) {
+            for (var view = this; view != null; view = view.parent) {
+                view.size += sizeDelta;
+                view.expectedState = changeOperationsCount;
+                view.modCount++;
+            }
+        }
+
+        private void validateState() {
+            if (expectedState != changeOperationsCount) {
+                throw concurrentModification();
+            }
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package com.tddapps.datastructures;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters for {@link ArrayListMetrics}, suitable for sharing between lists and
+ * for polling from a metrics exporter. Scan lengths are grouped into power-of-two buckets:
+ * bucket 0 counts empty scans and bucket k counts lengths in [2^(k-1), 2^k).
+ */
+public final class ArrayListCounters implements ArrayListMetrics {
+    static final ArrayListMetrics NONE = new ArrayListMetrics() {
+    };
+
+    static final int BUCKET_COUNT = Integer.SIZE;
+
+    private final LongAdder grows = new LongAdder();
+    private final LongAdder shrinks = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+    private final LongAdder scans = new LongAdder();
+    private final LongAdder scannedElements = new LongAdder();
+    private final LongAdder concurrentModifications = new LongAdder();
+    private final LongAdder[] scanLengths = new LongAdder[BUCKET_COUNT];
+
+    public ArrayListCounters() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            scanLengths[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+        if (newCapacity > oldCapacity) {
+            grows.increment();
+        } else if (newCapacity < oldCapacity) {
+            shrinks.increment();
+        }
+
+        this.copiedElements.add(copiedElements);
+    }
+
+    @Override
+    public void onScan(int length) {
+        scans.increment();
+        scannedElements.add(length);
+        scanLengths[bucketOf(length)].increment();
+    }
+
+    @Override
+    public void onConcurrentModification() {
+        concurrentModifications.increment();
+    }
+
+    public long growCount() {
+        return grows.sum();
+    }
+
+    public long shrinkCount() {
+        return shrinks.sum();
+    }
+
+    public long copiedElements() {
+        return copiedElements.sum();
+    }
+
+    public long scanCount() {
+        return scans.sum();
+    }
+
+    public long scannedElements() {
+        return scannedElements.sum();
+    }
+
+    public long concurrentModificationCount() {
+        return concurrentModifications.sum();
+    }
+
+    /**
+     * Returns a copy of the scan length buckets.
+     */
+    public long[] scanLengthHistogram() {
+        var result = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result[i] = scanLengths[i].sum();
+        }
+        return result;
+    }
+
+    public void reset() {
+        grows.reset();
+        shrinks.reset();
+        copiedElements.reset();
+        scans.reset();
+        scannedElements.reset();
+        concurrentModifications.reset();
+        for (var bucket : scanLengths) {
+            bucket.reset();
+        }
+    }
+
+    static int bucketOf(int length) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length);
+    }
+}
@@ -0,0 +1,109 @@
+package com.tddapps.datastructures;
+
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Bidirectional iterator that edits its list in place. Changes made through the iterator
+ * keep it valid; changes made anywhere else make it fail-fast.
+ */
+class ArrayListIterator<T> implements ListIterator<T> {
+    private static final int NONE = -1;
+
+    private final ArrayList<T> owner;
+    private long expectedState;
+    private int cursor;
+    private int lastReturned = NONE;
+
+    public ArrayListIterator(ArrayList<T> owner, int index){
+        this.owner = owner;
+        this.cursor = index;
+        expectedState = owner.changeOperationsCount();
+    }
+
+    @Override
+    public boolean hasNext() {
+        validateState();
+        return cursor < owner.size();
+    }
+
+    @Override
+    public T next() {
+        validateState();
+
+        if (cursor >= owner.size()) {
+            throw new NoSuchElementException();
+        }
+
+        lastReturned = cursor++;
+        return owner.get(lastReturned);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        validateState();
+        return cursor > 0;
+    }
+
+    @Override
+    public T previous() {
+        validateState();
+
+        if (cursor <= 0) {
+            throw new NoSuchElementException();
+        }
+
+        lastReturned = --cursor;
+        return owner.get(lastReturned);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+        return cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+        validateLastReturned();
+        validateState();
+
+        owner.remove(lastReturned);
+        cursor = lastReturned;
+        lastReturned = NONE;
+        expectedState = owner.changeOperationsCount();
+    }
+
+    @Override
+    public void set(T t) {
+        validateLastReturned();
+        validateState();
+
+        owner.set(lastReturned, t);
+    }
+
+    @Override
+    public void add(T t) {
+        validateState();
+
+        owner.add(cursor++, t);
+        lastReturned = NONE;
+        expectedState = owner.changeOperationsCount();
+    }
+
+    private void validateLastReturned(){
+        if (lastReturned == NONE) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private void validateState(){
+        if (expectedState != owner.changeOperationsCount()){
+            throw owner.concurrentModification();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.tddapps.datastructures;
+
+/**
+ * Receives notifications about the internal work an {@link ArrayList} performs.
+ * Callbacks run on the thread modifying the list and should be cheap.
+ */
+public interface ArrayListMetrics {
+    /**
+     * The backing array was replaced, copying copiedElements into the new one.
+     * Capacities are equal when a shared array is copied before a write.
+     */
+    default void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+    }
+
+    /**
+     * A linear search examined length elements.
+     */
+    default void onScan(int length) {
+    }
+
+    /**
+     * A ConcurrentModificationException is about to be thrown.
+     */
+    default void onConcurrentModification() {
+    }
+
+    /**
+     * Ignores every notification.
+     */
+    static ArrayListMetrics none() {
+        return ArrayListCounters.NONE;
+    }
+}
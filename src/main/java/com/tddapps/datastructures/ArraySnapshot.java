@@ -0,0 +1,41 @@
+package com.tddapps.datastructures;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.RandomAccess;
+
+class ArraySnapshot<T> extends AbstractList<T> implements RandomAccess {
+    private final Object[] data;
+    private final int size;
+
+    ArraySnapshot(Object[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return (T)data[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayIterator<>(data, size);
+    }
+
+    @Override
+    public Object[] toArray() {
+        var result = new Object[size];
+        System.arraycopy(data, 0, result, 0, size);
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package com.tddapps.datastructures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Late-binding spliterator: the backing array, the fence and the expected change count are
+ * read from the owner on first use, so modifications made between creation and traversal
+ * are seen instead of reported.
+ */
+class ArraySpliterator<T> implements Spliterator<T> {
+    private final ArrayList<?> owner;
+    private Object[] data;
+    private int fence;
+    private long initialState;
+    private int index;
+
+    public ArraySpliterator(ArrayList<?> owner){
+        this.owner = owner;
+        this.fence = -1;
+    }
+
+    private ArraySpliterator(Object[] data, int origin, int fence, ArrayList<?> owner, long initialState){
+        this.data = data;
+        this.index = origin;
+        this.fence = fence;
+        this.owner = owner;
+        this.initialState = initialState;
+    }
+
+    private int getFence(){
+        if (fence < 0) {
+            initialState = owner.changeOperationsCount();
+            data = owner.elementData();
+            fence = owner.size();
+        }
+
+        return fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= getFence()) {
+            return false;
+        }
+
+        validateState();
+        action.accept((T)data[index++]);
+        validateState();
+        return true;
+    }
+
+    /**
+     * Checks for modifications once at the end, unless the owner recycles its arrays through
+     * a storage pool, in which case a replaced array may already hold another list's elements
+     * and every element is checked before it is read.
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        int end = getFence();
+        var elements = data;
+
+        if (owner.recyclesStorage()) {
+            for (int i = index; i < end; i++) {
+                validateState();
+                action.accept((T)elements[i]);
+            }
+        } else {
+            for (int i = index; i < end; i++) {
+                action.accept((T)elements[i]);
+            }
+        }
+
+        index = end;
+        validateState();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int lo = index;
+        int mid = (lo + getFence()) >>> 1;
+
+        if (lo >= mid) {
+            return null;
+        }
+
+        index = mid;
+        return new ArraySpliterator<>(data, lo, mid, owner, initialState);
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+
+    private void validateState(){
+        if (initialState != owner.changeOperationsCount()){
+            throw owner.concurrentModification();
+        }
+    }
+}
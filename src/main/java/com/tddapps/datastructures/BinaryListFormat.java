@@ -0,0 +1,203 @@
+package com.tddapps.datastructures;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Versioned binary layout used by {@link ArrayList#writeTo} and {@link ArrayList#readFrom}.
+ * <p>
+ * The header holds a magic number, the format version, flags, the codec width and the
+ * element count. Each element is a tag byte, {@code 0} for null and {@code 1} for a value,
+ * followed by the codec bytes of the value. When {@link #RUN_LENGTH} is set, every record
+ * is prefixed with the number of consecutive equal elements it stands for.
+ */
+final class BinaryListFormat {
+    static final int MAGIC = 0x54444C41;
+    static final byte VERSION = 1;
+    static final byte RUN_LENGTH = 1;
+    static final int HEADER_SIZE = 14;
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final int MAX_UNVERIFIED_ALLOCATION = 1 << 20;
+
+    private static final byte NULL_TAG = 0;
+    private static final byte VALUE_TAG = 1;
+
+    private BinaryListFormat() {
+    }
+
+    static <T> void write(Object[] data, int size, WritableByteChannel channel,
+                          FixedWidthCodec<? super T> codec, boolean compressRuns) throws IOException {
+        int width = validateWidth(codec);
+        int recordSize = recordSize(width, compressRuns);
+        var buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, recordSize));
+
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put(compressRuns ? RUN_LENGTH : 0);
+        buffer.putInt(width);
+        buffer.putInt(size);
+
+        int i = 0;
+        while (i < size) {
+            if (buffer.remaining() < recordSize) {
+                drain(buffer, channel);
+            }
+
+            var e = (T) data[i];
+            int run = 1;
+
+            if (compressRuns) {
+                while (i + run < size && Objects.equals(e, data[i + run])) {
+                    run++;
+                }
+                buffer.putInt(run);
+            }
+
+            if (e == null) {
+                buffer.put(NULL_TAG);
+            } else {
+                buffer.put(VALUE_TAG);
+                codec.write(buffer, buffer.position(), e);
+                buffer.position(buffer.position() + width);
+            }
+
+            i += run;
+        }
+
+        drain(buffer, channel);
+    }
+
+    /**
+     * Returns an array holding exactly the elements stored in the channel. The array is
+     * allocated once from the header when the count is small or the channel is known to hold
+     * enough bytes for it; otherwise it starts capped and grows as records arrive, so a
+     * forged count cannot force a huge allocation.
+     */
+    static <T> Object[] read(ReadableByteChannel channel, FixedWidthCodec<T> codec) throws IOException {
+        int width = validateWidth(codec);
+        var buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, recordSize(width, true)));
+        buffer.limit(0);
+
+        fill(buffer, channel, HEADER_SIZE);
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("channel does not contain a list");
+        }
+
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException("unsupported list version " + version);
+        }
+
+        boolean compressedRuns = (buffer.get() & RUN_LENGTH) != 0;
+
+        int storedWidth = buffer.getInt();
+        if (storedWidth != width) {
+            throw new IOException("list was written with a codec of width " + storedWidth);
+        }
+
+        int size = buffer.getInt();
+        if (size < 0) {
+            throw new IOException("list is corrupted, invalid size " + size);
+        }
+
+        if (!compressedRuns && channel instanceof SeekableByteChannel) {
+            var seekable = (SeekableByteChannel) channel;
+            long available = seekable.size() - seekable.position() + buffer.remaining();
+            // every element takes at least its tag byte
+            if (size > available) {
+                throw new IOException("list is corrupted, " + size + " elements cannot fit in " + available + " bytes");
+            }
+        }
+
+        var result = new Object[initialLength(size, compressedRuns, channel)];
+        int i = 0;
+        while (i < size) {
+            int run = 1;
+            if (compressedRuns) {
+                fill(buffer, channel, Integer.BYTES);
+                run = buffer.getInt();
+                if (run <= 0 || run > size - i) {
+                    throw new IOException("list is corrupted, invalid run length " + run);
+                }
+            }
+
+            fill(buffer, channel, 1);
+            T e = null;
+
+            switch (buffer.get()) {
+                case NULL_TAG:
+                    break;
+                case VALUE_TAG:
+                    fill(buffer, channel, width);
+                    e = codec.read(buffer, buffer.position());
+                    buffer.position(buffer.position() + width);
+                    break;
+                default:
+                    throw new IOException("list is corrupted, invalid element tag");
+            }
+
+            if (i + run > result.length) {
+                result = Arrays.copyOf(result, (int) Math.min(size, Math.max(i + run, (long) result.length << 1)));
+            }
+
+            for (int end = i + run; i < end; i++) {
+                result[i] = e;
+            }
+        }
+
+        return result;
+    }
+
+    private static int initialLength(int size, boolean compressedRuns, ReadableByteChannel channel) {
+        if (size <= MAX_UNVERIFIED_ALLOCATION || (!compressedRuns && channel instanceof SeekableByteChannel)) {
+            return size;
+        }
+
+        return MAX_UNVERIFIED_ALLOCATION;
+    }
+
+    private static int validateWidth(FixedWidthCodec<?> codec) {
+        int width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("codec width must be positive");
+        }
+        return width;
+    }
+
+    private static int recordSize(int width, boolean compressRuns) {
+        return (compressRuns ? Integer.BYTES : 0) + 1 + width;
+    }
+
+    private static void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Makes sure at least count unread bytes are available, reading as much as fits at once.
+     * The buffer is kept in read mode between calls; it starts empty (position == limit).
+     */
+    private static void fill(ByteBuffer buffer, ReadableByteChannel channel, int count) throws IOException {
+        if (buffer.remaining() >= count) {
+            return;
+        }
+
+        buffer.compact();
+        while (buffer.position() < count) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("list ended unexpectedly");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,61 @@
+package com.tddapps.datastructures;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps a bounded number of released arrays per length. Arrays are nulled out when
+ * released so pooled storage never retains elements. Safe to share between lists.
+ */
+public final class BoundedStoragePool implements StoragePool {
+    static final BoundedStoragePool NONE = new BoundedStoragePool(0);
+
+    private final int maxArraysPerCapacity;
+    private final Map<Integer, ArrayDeque<Object[]>> arrays = new HashMap<>();
+
+    public BoundedStoragePool(int maxArraysPerCapacity) {
+        if (maxArraysPerCapacity < 0) {
+            throw new IllegalArgumentException("maxArraysPerCapacity cannot be negative");
+        }
+
+        this.maxArraysPerCapacity = maxArraysPerCapacity;
+    }
+
+    @Override
+    public Object[] acquire(int capacity) {
+        if (maxArraysPerCapacity > 0) {
+            synchronized (arrays) {
+                var available = arrays.get(capacity);
+                if (available != null && !available.isEmpty()) {
+                    return available.pop();
+                }
+            }
+        }
+
+        return new Object[capacity];
+    }
+
+    @Override
+    public void release(Object[] array) {
+        if (maxArraysPerCapacity == 0 || array.length == 0) {
+            return;
+        }
+
+        Arrays.fill(array, null);
+
+        synchronized (arrays) {
+            var available = arrays.computeIfAbsent(array.length, k -> new ArrayDeque<>());
+            if (available.size() < maxArraysPerCapacity) {
+                available.push(array);
+            }
+        }
+    }
+
+    int pooledCount(int capacity) {
+        synchronized (arrays) {
+            var available = arrays.get(capacity);
+            return available == null ? 0 : available.size();
+        }
+    }
+}
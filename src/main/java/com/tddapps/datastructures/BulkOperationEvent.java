@@ -0,0 +1,35 @@
+package com.tddapps.datastructures;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.tddapps.datastructures.BulkOperation")
+@Label("List Bulk Operation")
+@Category({"Data Structures", "ArrayList"})
+@Description("A list operation taking a whole collection as input")
+final class BulkOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Size Before")
+    int sizeBefore;
+
+    @Label("Input Size")
+    int inputSize;
+
+    @Label("Size After")
+    int sizeAfter;
+
+    void report(String operation, int sizeBefore, int inputSize, int sizeAfter) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.sizeBefore = sizeBefore;
+            this.inputSize = inputSize;
+            this.sizeAfter = sizeAfter;
+            commit();
+        }
+    }
+}
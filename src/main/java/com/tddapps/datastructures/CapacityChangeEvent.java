@@ -0,0 +1,52 @@
+package com.tddapps.datastructures;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.tddapps.datastructures.CapacityChange")
+@Label("List Capacity Change")
+@Category({"Data Structures", "ArrayList"})
+@Description("The backing array of a list was replaced")
+final class CapacityChangeEvent extends Event {
+    private static final int REFERENCE_SIZE = referenceSize();
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Elements Copied")
+    int elementsCopied;
+
+    @Label("Bytes Copied")
+    @DataAmount
+    long bytesCopied;
+
+    @Label("Trigger")
+    @Description("List operation that caused the change")
+    String trigger;
+
+    void report(int oldCapacity, int newCapacity, int elementsCopied, String trigger) {
+        if (shouldCommit()) {
+            this.oldCapacity = oldCapacity;
+            this.newCapacity = newCapacity;
+            this.elementsCopied = elementsCopied;
+            this.bytesCopied = (long) elementsCopied * REFERENCE_SIZE;
+            this.trigger = trigger;
+            commit();
+        }
+    }
+
+    private static int referenceSize() {
+        try {
+            return Class.forName("sun.misc.Unsafe").getField("ARRAY_OBJECT_INDEX_SCALE").getInt(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Long.BYTES;
+        }
+    }
+}
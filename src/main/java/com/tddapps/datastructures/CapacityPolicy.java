@@ -0,0 +1,38 @@
+package com.tddapps.datastructures;
+
+/**
+ * Decides how the backing array of a list grows and shrinks.
+ */
+public interface CapacityPolicy {
+    /**
+     * Returns the new capacity, never less than requiredCapacity.
+     */
+    int grow(int capacity, int requiredCapacity);
+
+    /**
+     * Returns the capacity to keep for the given size; returning capacity means no shrinking.
+     */
+    int shrink(int capacity, int size);
+
+    /**
+     * Doubles when full and halves as soon as the list is less than half full.
+     */
+    static CapacityPolicy halving() {
+        return GeometricCapacityPolicy.HALVING;
+    }
+
+    /**
+     * Doubles when full and only halves once the list is less than a quarter full, so
+     * sizes oscillating around a power of two do not reallocate on every add/remove pair.
+     */
+    static CapacityPolicy withHysteresis() {
+        return GeometricCapacityPolicy.HYSTERESIS;
+    }
+
+    /**
+     * Doubles when full and never releases capacity.
+     */
+    static CapacityPolicy neverShrink() {
+        return GeometricCapacityPolicy.NEVER_SHRINK;
+    }
+}
@@ -0,0 +1,316 @@
+package com.tddapps.datastructures;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe array list tuned for read-mostly workloads. Readers never block:
+ * {@code get}, {@code indexOf}, {@code contains} and {@code size} run under an optimistic
+ * {@link StampedLock} read and only fall back to a read lock when a writer interfered.
+ * Writers serialize on the write lock. Appends write past the end of the array in place, while
+ * {@code set}, removals and {@code clear} build a new array so iterators keep walking a stable
+ * snapshot and never throw {@link java.util.ConcurrentModificationException}.
+ */
+public class ConcurrentArrayList<T> implements Iterable<T> {
+    private static final int NOT_FOUND = -1;
+
+    private final StampedLock lock = new StampedLock();
+    private int size = 0;
+    private Object[] data;
+
+    public ConcurrentArrayList() {
+        this(ArrayList.DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity cannot be negative");
+        }
+
+        data = new Object[initialCapacity];
+    }
+
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int result = size;
+
+        if (lock.validate(stamp)) {
+            return result;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        var currentData = data;
+        int currentSize = size;
+        boolean withinBounds = index >= 0 && index < currentSize && index < currentData.length;
+        var result = withinBounds ? currentData[index] : null;
+
+        if (lock.validate(stamp)) {
+            if (!withinBounds) {
+                throw new IndexOutOfBoundsException(index);
+            }
+
+            return (T) result;
+        }
+
+        stamp = lock.readLock();
+        try {
+            validateIndexIsWithinBounds(index);
+            return (T) data[index];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public T set(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            validateIndexIsWithinBounds(index);
+
+            var result = data[index];
+            var newData = Arrays.copyOf(data, data.length);
+            newData[index] = element;
+            data = newData;
+            return (T) result;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean add(T t) {
+        long stamp = lock.writeLock();
+        try {
+            if (size == data.length) {
+                changeCapacity(Math.max(1, data.length << 1));
+            }
+
+            data[size++] = t;
+
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean addAll(Collection<? extends T> c) {
+        var additions = c.toArray();
+
+        if (additions.length == 0) {
+            return false;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (data.length - size < additions.length) {
+                changeCapacity(Math.max(size + additions.length, data.length << 1));
+            }
+
+            System.arraycopy(additions, 0, data, size, additions.length);
+            size += additions.length;
+
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) != NOT_FOUND;
+    }
+
+    /**
+     * Scans optimistically, but validates the stamp after reading each element and before
+     * calling equals on it, so caller code never sees an element from an inconsistent read.
+     * An exception thrown by equals while a writer raced the scan triggers a locked retry.
+     */
+    public int indexOf(Object o) {
+        long stamp = lock.tryOptimisticRead();
+        var currentData = data;
+        int end = Math.min(size, currentData.length);
+
+        try {
+            for (int i = 0; i < end; i++) {
+                var e = currentData[i];
+
+                if (!lock.validate(stamp)) {
+                    break;
+                }
+
+                if (matches(o, e)) {
+                    return i;
+                }
+            }
+        } catch (RuntimeException e) {
+            if (lock.validate(stamp)) {
+                throw e;
+            }
+        }
+
+        if (lock.validate(stamp)) {
+            return NOT_FOUND;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return indexOf(data, size, o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+        try {
+            int index = indexOf(data, size, o);
+
+            if (index == NOT_FOUND) {
+                return false;
+            }
+
+            removeAt(index);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public T remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            validateIndexIsWithinBounds(index);
+
+            var result = data[index];
+            removeAt(index);
+            return (T) result;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            data = new Object[data.length];
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            var result = new Object[size];
+            System.arraycopy(data, 0, result, 0, size);
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements present when it was created.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] snapshotData;
+        int snapshotSize;
+
+        long stamp = lock.tryOptimisticRead();
+        snapshotData = data;
+        snapshotSize = size;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                snapshotData = data;
+                snapshotSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return new SnapshotIterator<>(snapshotData, snapshotSize);
+    }
+
+    private void removeAt(int index) {
+        int newSize = size - 1;
+        int capacity = data.length;
+        if (capacity - newSize > newSize) {
+            capacity -= capacity >> 1;
+        }
+
+        var newData = new Object[capacity];
+        System.arraycopy(data, 0, newData, 0, index);
+        System.arraycopy(data, index + 1, newData, index, newSize - index);
+
+        data = newData;
+        size = newSize;
+    }
+
+    private void changeCapacity(int newCapacity) {
+        var newData = new Object[newCapacity];
+        System.arraycopy(data, 0, newData, 0, size);
+        data = newData;
+    }
+
+    private static int indexOf(Object[] data, int size, Object o) {
+        for (int i = 0; i < size; i++) {
+            if (matches(o, data[i])) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private static boolean matches(Object o, Object e) {
+        return (o == null && e == null) || (e != null && e.equals(o));
+    }
+
+    private void validateIndexIsWithinBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private static class SnapshotIterator<T> implements Iterator<T> {
+        private final Object[] data;
+        private final int size;
+        private int index = 0;
+
+        SnapshotIterator(Object[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+
+            return (T) data[index++];
+        }
+    }
+}
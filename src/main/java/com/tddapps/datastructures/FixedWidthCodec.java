@@ -0,0 +1,72 @@
+package com.tddapps.datastructures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes elements into a fixed number of bytes so they can be stored outside of the heap.
+ * Implementations must use absolute buffer operations and never change the buffer position.
+ */
+public interface FixedWidthCodec<T> {
+    int width();
+
+    void write(ByteBuffer buffer, int offset, T value);
+
+    T read(ByteBuffer buffer, int offset);
+
+    static FixedWidthCodec<Integer> ints() {
+        return new FixedWidthCodec<>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer value) {
+                buffer.putInt(offset, value);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    static FixedWidthCodec<Long> longs() {
+        return new FixedWidthCodec<>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long value) {
+                buffer.putLong(offset, value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    static FixedWidthCodec<Double> doubles() {
+        return new FixedWidthCodec<>() {
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double value) {
+                buffer.putDouble(offset, value);
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+        };
+    }
+}
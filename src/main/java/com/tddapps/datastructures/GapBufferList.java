@@ -0,0 +1,211 @@
+package com.tddapps.datastructures;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list that keeps a movable gap inside its backing array at the position of the last edit.
+ * Inserts and removals next to the previous one are O(1); moving the edit position costs a
+ * single block copy proportional to the distance moved. Removals release capacity as the
+ * {@link CapacityPolicy} allows.
+ */
+public class GapBufferList<T> extends AbstractList<T> implements RandomAccess {
+    private static final int NOT_FOUND = -1;
+
+    private final CapacityPolicy capacityPolicy;
+    private Object[] data;
+    private int gapStart;
+    private int gapEnd;
+
+    public GapBufferList() {
+        this(ArrayList.DEFAULT_CAPACITY);
+    }
+
+    public GapBufferList(int initialCapacity) {
+        this(initialCapacity, CapacityPolicy.halving());
+    }
+
+    public GapBufferList(int initialCapacity, CapacityPolicy capacityPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity cannot be negative");
+        }
+
+        this.capacityPolicy = Objects.requireNonNull(capacityPolicy);
+        data = new Object[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+    }
+
+    int capacity() {
+        return data.length;
+    }
+
+    int gapPosition() {
+        return gapStart;
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    @Override
+    public int size() {
+        return data.length - gapLength();
+    }
+
+    @Override
+    public T get(int index) {
+        validateIndexIsWithinBounds(index);
+
+        return (T) data[physicalIndex(index)];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        validateIndexIsWithinBounds(index);
+
+        int position = physicalIndex(index);
+        var result = data[position];
+        data[position] = element;
+        return (T) result;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        validateIndexIsWithinInsertionBounds(index);
+        modCount++;
+
+        if (gapLength() == 0) {
+            growCapacity();
+        }
+
+        moveGapTo(index);
+        data[gapStart++] = element;
+    }
+
+    @Override
+    public T remove(int index) {
+        validateIndexIsWithinBounds(index);
+        modCount++;
+
+        moveGapTo(index);
+        var result = data[gapEnd];
+        data[gapEnd++] = null;
+
+        shrinkCapacity();
+        return (T) result;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        modCount++;
+
+        moveGapTo(fromIndex);
+        Arrays.fill(data, gapEnd, gapEnd + toIndex - fromIndex, null);
+        gapEnd += toIndex - fromIndex;
+
+        shrinkCapacity();
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+
+        Arrays.fill(data, null);
+        gapStart = 0;
+        gapEnd = data.length;
+
+        shrinkCapacity();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < gapStart; i++) {
+            if (Objects.equals(o, data[i])) {
+                return i;
+            }
+        }
+
+        for (int i = gapEnd; i < data.length; i++) {
+            if (Objects.equals(o, data[i])) {
+                return i - gapLength();
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    @Override
+    public Object[] toArray() {
+        var result = new Object[size()];
+        System.arraycopy(data, 0, result, 0, gapStart);
+        System.arraycopy(data, gapEnd, result, gapStart, data.length - gapEnd);
+        return result;
+    }
+
+    private int physicalIndex(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    private void moveGapTo(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(data, index, data, gapEnd - count, count);
+            Arrays.fill(data, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(data, gapEnd, data, gapStart, count);
+            Arrays.fill(data, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    private void growCapacity() {
+        changeCapacity(capacityPolicy.grow(data.length, size() + 1));
+    }
+
+    /**
+     * Applies the policy until it stops shrinking, so a bulk removal releases its capacity
+     * with a single copy instead of one per halving.
+     */
+    private void shrinkCapacity() {
+        int size = size();
+        int newCapacity = data.length;
+
+        for (int next = capacityPolicy.shrink(newCapacity, size); next < newCapacity; next = capacityPolicy.shrink(newCapacity, size)) {
+            newCapacity = next;
+        }
+
+        if (newCapacity < data.length) {
+            changeCapacity(newCapacity);
+        }
+    }
+
+    private void changeCapacity(int newCapacity) {
+        int tailLength = data.length - gapEnd;
+
+        var newData = new Object[newCapacity];
+        System.arraycopy(data, 0, newData, 0, gapStart);
+        System.arraycopy(data, gapEnd, newData, newCapacity - tailLength, tailLength);
+
+        data = newData;
+        gapEnd = newCapacity - tailLength;
+    }
+
+    private void validateIndexIsWithinBounds(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private void validateIndexIsWithinInsertionBounds(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
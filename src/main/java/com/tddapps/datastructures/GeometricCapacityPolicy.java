@@ -0,0 +1,55 @@
+package com.tddapps.datastructures;
+
+/**
+ * Grows the capacity by a constant factor and halves it once the size drops below
+ * {@code capacity / shrinkDivisor}. A shrinkDivisor of zero disables shrinking.
+ */
+public final class GeometricCapacityPolicy implements CapacityPolicy {
+    static final GeometricCapacityPolicy HALVING = new GeometricCapacityPolicy(2.0, 2, 0);
+    static final GeometricCapacityPolicy HYSTERESIS = new GeometricCapacityPolicy(2.0, 4, 0);
+    static final GeometricCapacityPolicy NEVER_SHRINK = new GeometricCapacityPolicy(2.0, 0, 0);
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final double growthFactor;
+    private final int shrinkDivisor;
+    private final int minimumCapacity;
+
+    public GeometricCapacityPolicy(double growthFactor, int shrinkDivisor, int minimumCapacity) {
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("growthFactor must be greater than one");
+        }
+
+        if (shrinkDivisor != 0 && shrinkDivisor < 2) {
+            throw new IllegalArgumentException("shrinkDivisor must be zero or at least two");
+        }
+
+        if (minimumCapacity < 0) {
+            throw new IllegalArgumentException("minimumCapacity cannot be negative");
+        }
+
+        this.growthFactor = growthFactor;
+        this.shrinkDivisor = shrinkDivisor;
+        this.minimumCapacity = minimumCapacity;
+    }
+
+    @Override
+    public int grow(int capacity, int requiredCapacity) {
+        if (requiredCapacity < 0) {
+            throw new OutOfMemoryError("required capacity exceeds the maximum array size");
+        }
+
+        var grown = (int) Math.min(MAX_CAPACITY, capacity * growthFactor);
+        return Math.max(requiredCapacity, Math.max(grown, minimumCapacity));
+    }
+
+    @Override
+    public int shrink(int capacity, int size) {
+        if (shrinkDivisor == 0 || (long) size * shrinkDivisor >= capacity) {
+            return capacity;
+        }
+
+        var halved = capacity - (capacity >> 1);
+        return Math.min(capacity, Math.max(halved, minimumCapacity));
+    }
+}
@@ -0,0 +1,213 @@
+package com.tddapps.datastructures;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class LongArrayList implements Iterable<Long> {
+    private static final int NOT_FOUND = -1;
+
+    private int size = 0;
+    private long changeOperationsCount = 0;
+    private long[] data;
+
+    public LongArrayList() {
+        this(ArrayList.DEFAULT_CAPACITY);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity cannot be negative");
+        }
+
+        data = new long[initialCapacity];
+    }
+
+    int capacity() {
+        return data.length;
+    }
+
+    private int available() {
+        return capacity() - size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getLong(int index) {
+        validateIndexIsWithinBounds(index);
+
+        return data[index];
+    }
+
+    public long setLong(int index, long element) {
+        validateIndexIsWithinBounds(index);
+
+        var result = data[index];
+        data[index] = element;
+        return result;
+    }
+
+    public boolean addLong(long element) {
+        trackModification();
+
+        if (isFull()) {
+            doubleCapacity();
+        }
+
+        data[size++] = element;
+
+        return true;
+    }
+
+    public boolean contains(long element) {
+        return indexOf(element) != NOT_FOUND;
+    }
+
+    public int indexOf(long element) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == element) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    public boolean removeLong(long element) {
+        var index = indexOf(element);
+
+        if (index == NOT_FOUND) {
+            return false;
+        }
+
+        trackModification();
+
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+
+        if (isLessThanHalfFull()) {
+            halveCapacity();
+        }
+
+        return true;
+    }
+
+    public void clear() {
+        trackModification();
+        size = 0;
+    }
+
+    public long[] toArray() {
+        var result = new long[size];
+        System.arraycopy(data, 0, result, 0, size);
+        return result;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        var that = (LongArrayList) o;
+
+        if (this.size != that.size) {
+            return false;
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            if (this.data[i] != that.data[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 7 * Integer.hashCode(size);
+
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(data[i]);
+        }
+
+        return result;
+    }
+
+    private boolean isFull() {
+        return available() < 1;
+    }
+
+    private boolean isLessThanHalfFull() {
+        return available() > size;
+    }
+
+    private void doubleCapacity() {
+        changeCapacity(Math.max(1, capacity()));
+    }
+
+    private void halveCapacity() {
+        int half = capacity() >> 1;
+        changeCapacity(-half);
+    }
+
+    private void changeCapacity(int delta) {
+        var newData = new long[capacity() + delta];
+        System.arraycopy(data, 0, newData, 0, size);
+        data = newData;
+    }
+
+    private void trackModification() {
+        changeOperationsCount++;
+    }
+
+    private void validateIndexIsWithinBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private class Iterator implements PrimitiveIterator.OfLong {
+        private final long initialState = changeOperationsCount;
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            validateState();
+            return index < size;
+        }
+
+        @Override
+        public long nextLong() {
+            validateState();
+
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+
+            return data[index++];
+        }
+
+        private void validateState() {
+            if (initialState != changeOperationsCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
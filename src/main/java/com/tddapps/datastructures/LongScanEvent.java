@@ -0,0 +1,41 @@
+package com.tddapps.datastructures;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Only recorded when the scan lasts longer than the threshold, which recordings can override
+ * through the {@code com.tddapps.datastructures.LongScan#threshold} setting.
+ */
+@Name("com.tddapps.datastructures.LongScan")
+@Label("List Long Scan")
+@Category({"Data Structures", "ArrayList"})
+@Description("A linear search over a list took longer than the threshold")
+@Threshold("1 ms")
+final class LongScanEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("List Size")
+    int listSize;
+
+    @Label("Elements Scanned")
+    int elementsScanned;
+
+    @Label("Found")
+    boolean found;
+
+    void report(String operation, int listSize, int elementsScanned, boolean found) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.listSize = listSize;
+            this.elementsScanned = elementsScanned;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.tddapps.datastructures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A list persisted in a memory-mapped file. Elements are laid out through a
+ * {@link FixedWidthCodec} after a small header, so reopening the file makes the
+ * list usable immediately without deserializing anything.
+ * Changes reach the page cache right away; {@link #force()} makes them durable.
+ */
+public class MappedArrayList<T> implements Iterable<T>, AutoCloseable {
+    static final int MAGIC = 0x54444C53;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int NOT_FOUND = -1;
+
+    private final FileChannel channel;
+    private final FixedWidthCodec<T> codec;
+    private final int width;
+    private int size;
+    private long changeOperationsCount = 0;
+    private MappedByteBuffer data;
+
+    private MappedArrayList(FileChannel channel, FixedWidthCodec<T> codec) {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.width();
+    }
+
+    /**
+     * Opens the list stored in the file, creating it when the file is missing or empty.
+     */
+    public static <T> MappedArrayList<T> open(Path file, FixedWidthCodec<T> codec) throws IOException {
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("codec width must be positive");
+        }
+
+        var channel = FileChannel.open(file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            var result = new MappedArrayList<>(channel, codec);
+
+            if (channel.size() == 0) {
+                result.initialize();
+            } else {
+                result.load();
+            }
+
+            return result;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void initialize() throws IOException {
+        data = map(ArrayList.DEFAULT_CAPACITY);
+        data.putInt(MAGIC_OFFSET, MAGIC);
+        data.putInt(VERSION_OFFSET, VERSION);
+        data.putInt(WIDTH_OFFSET, width);
+        data.putInt(SIZE_OFFSET, 0);
+        size = 0;
+    }
+
+    private void load() throws IOException {
+        var fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw new IOException("file is too small to contain a list header");
+        }
+
+        data = map((int) ((fileSize - HEADER_SIZE) / width));
+
+        if (data.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("file does not contain a list");
+        }
+
+        if (data.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("unsupported list version " + data.getInt(VERSION_OFFSET));
+        }
+
+        if (data.getInt(WIDTH_OFFSET) != width) {
+            throw new IOException("file was written with a codec of width " + data.getInt(WIDTH_OFFSET));
+        }
+
+        size = data.getInt(SIZE_OFFSET);
+        if (size < 0 || size > capacity()) {
+            throw new IOException("file is corrupted, invalid size " + size);
+        }
+    }
+
+    int capacity() {
+        validateIsOpen();
+        return (data.capacity() - HEADER_SIZE) / width;
+    }
+
+    private int available() {
+        return capacity() - size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        validateIndexIsWithinBounds(index);
+
+        return codec.read(data, offsetOf(index));
+    }
+
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        validateIndexIsWithinBounds(index);
+
+        var result = codec.read(data, offsetOf(index));
+        codec.write(data, offsetOf(index), element);
+        return result;
+    }
+
+    public boolean add(T element) {
+        Objects.requireNonNull(element);
+        validateIsOpen();
+        trackModification();
+
+        if (isFull()) {
+            doubleCapacity();
+        }
+
+        codec.write(data, offsetOf(size), element);
+        changeSize(size + 1);
+
+        return true;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) != NOT_FOUND;
+    }
+
+    public int indexOf(Object o) {
+        validateIsOpen();
+
+        for (int i = 0; i < size; i++) {
+            if (codec.read(data, offsetOf(i)).equals(o)) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    public void clear() {
+        validateIsOpen();
+        trackModification();
+        changeSize(0);
+    }
+
+    /**
+     * Writes every pending change to the storage device.
+     */
+    public void force() {
+        validateIsOpen();
+        data.force();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        validateIsOpen();
+        return new Iterator<>() {
+            private final long initialState = changeOperationsCount;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                validateState();
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                validateState();
+
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return codec.read(data, offsetOf(index++));
+            }
+
+            private void validateState() {
+                if (initialState != changeOperationsCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    /**
+     * Unmaps the file and closes it. The list cannot be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        if (data == null) {
+            return;
+        }
+
+        trackModification();
+        DirectBuffers.release(data);
+        data = null;
+        channel.close();
+    }
+
+    private boolean isFull() {
+        return available() < 1;
+    }
+
+    private void doubleCapacity() {
+        changeCapacity(Math.max(1, capacity()));
+    }
+
+    private void changeCapacity(int delta) {
+        try {
+            var newData = map(capacity() + delta);
+            DirectBuffers.release(data);
+            data = newData;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer map(int capacity) throws IOException {
+        if (capacity > (Integer.MAX_VALUE - HEADER_SIZE) / width) {
+            throw new IOException("capacity exceeds the maximum mapping size");
+        }
+
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * width);
+    }
+
+    private void changeSize(int newSize) {
+        size = newSize;
+        data.putInt(SIZE_OFFSET, newSize);
+    }
+
+    private int offsetOf(int index) {
+        return HEADER_SIZE + index * width;
+    }
+
+    private void trackModification() {
+        changeOperationsCount++;
+    }
+
+    private void validateIsOpen() {
+        if (data == null) {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    private void validateIndexIsWithinBounds(int index) {
+        validateIsOpen();
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.tddapps.datastructures;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A list whose elements live in a direct {@link ByteBuffer} instead of an {@code Object[]},
+ * so the garbage collector never has to scan them. Elements are stored through a
+ * {@link FixedWidthCodec} and the memory is freed by {@link #close()}.
+ */
+public class OffHeapArrayList<T> implements Iterable<T>, AutoCloseable {
+    private static final int NOT_FOUND = -1;
+
+    private final FixedWidthCodec<T> codec;
+    private final int width;
+    private int size = 0;
+    private long changeOperationsCount = 0;
+    private ByteBuffer data;
+
+    public OffHeapArrayList(FixedWidthCodec<T> codec) {
+        this(codec, ArrayList.DEFAULT_CAPACITY);
+    }
+
+    public OffHeapArrayList(FixedWidthCodec<T> codec, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity cannot be negative");
+        }
+
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("codec width must be positive");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+        data = allocate(initialCapacity);
+    }
+
+    int capacity() {
+        validateIsOpen();
+        return data.capacity() / width;
+    }
+
+    private int available() {
+        return capacity() - size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        validateIndexIsWithinBounds(index);
+
+        return codec.read(data, offsetOf(index));
+    }
+
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        validateIndexIsWithinBounds(index);
+
+        var result = codec.read(data, offsetOf(index));
+        codec.write(data, offsetOf(index), element);
+        return result;
+    }
+
+    public boolean add(T element) {
+        Objects.requireNonNull(element);
+        validateIsOpen();
+        trackModification();
+
+        if (isFull()) {
+            doubleCapacity();
+        }
+
+        codec.write(data, offsetOf(size++), element);
+
+        return true;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) != NOT_FOUND;
+    }
+
+    public int indexOf(Object o) {
+        validateIsOpen();
+
+        for (int i = 0; i < size; i++) {
+            if (codec.read(data, offsetOf(i)).equals(o)) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    public void clear() {
+        trackModification();
+        size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        validateIsOpen();
+        return new Iterator<>() {
+            private final long initialState = changeOperationsCount;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                validateState();
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                validateState();
+
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return codec.read(data, offsetOf(index++));
+            }
+
+            private void validateState() {
+                if (initialState != changeOperationsCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    /**
+     * Frees the off-heap memory. The list cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (data == null) {
+            return;
+        }
+
+        trackModification();
+        DirectBuffers.release(data);
+        data = null;
+        size = 0;
+    }
+
+    private boolean isFull() {
+        return available() < 1;
+    }
+
+    private void doubleCapacity() {
+        changeCapacity(Math.max(1, capacity()));
+    }
+
+    private void changeCapacity(int delta) {
+        var newData = allocate(capacity() + delta);
+
+        var used = data.duplicate();
+        used.position(0).limit(size * width);
+        newData.put(used);
+
+        DirectBuffers.release(data);
+        data = newData;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        if (capacity > Integer.MAX_VALUE / width) {
+            throw new OutOfMemoryError("capacity exceeds the maximum direct buffer size");
+        }
+
+        return ByteBuffer.allocateDirect(capacity * width).order(ByteOrder.nativeOrder());
+    }
+
+    private int offsetOf(int index) {
+        return index * width;
+    }
+
+    private void trackModification() {
+        changeOperationsCount++;
+    }
+
+    private void validateIsOpen() {
+        if (data == null) {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    private void validateIndexIsWithinBounds(int index) {
+        validateIsOpen();
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
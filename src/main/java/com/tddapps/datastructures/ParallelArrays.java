@@ -0,0 +1,113 @@
+package com.tddapps.datastructures;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fork/join helpers that split a range of an array into chunks processed in parallel.
+ * Ranges no larger than {@link #SEQUENTIAL_THRESHOLD} are processed by the calling task.
+ */
+final class ParallelArrays {
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private ParallelArrays() {
+    }
+
+    static <T> void replaceAll(Object[] data, int size, UnaryOperator<T> operator) {
+        ForkJoinPool.commonPool().invoke(new ReplaceTask<>(data, 0, size, operator));
+    }
+
+    /**
+     * Evaluates the filter once per element and returns a bitset of the matching positions.
+     */
+    static <T> long[] markParallel(Object[] data, int size, Predicate<? super T> filter) {
+        var marks = new long[wordsFor(size)];
+        ForkJoinPool.commonPool().invoke(new MarkTask<>(data, 0, size, filter, marks));
+        return marks;
+    }
+
+    /**
+     * Sequential counterpart of {@link #markParallel(Object[], int, Predicate)}.
+     */
+    static <T> long[] mark(Object[] data, int size, Predicate<? super T> filter) {
+        var marks = new long[wordsFor(size)];
+        markRange(data, 0, size, filter, marks);
+        return marks;
+    }
+
+    static boolean isMarked(long[] marks, int index) {
+        return (marks[index / BITS_PER_WORD] & (1L << index)) != 0;
+    }
+
+    private static int wordsFor(int size) {
+        return (size + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+
+    private static <T> void markRange(Object[] data, int from, int to, Predicate<? super T> filter, long[] marks) {
+        for (int i = from; i < to; i++) {
+            if (filter.test((T) data[i])) {
+                marks[i / BITS_PER_WORD] |= 1L << i;
+            }
+        }
+    }
+
+    private static class ReplaceTask<T> extends RecursiveAction {
+        private final Object[] data;
+        private final int from;
+        private final int to;
+        private final UnaryOperator<T> operator;
+
+        ReplaceTask(Object[] data, int from, int to, UnaryOperator<T> operator) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+            this.operator = operator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    data[i] = operator.apply((T) data[i]);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReplaceTask<>(data, from, mid, operator),
+                    new ReplaceTask<>(data, mid, to, operator));
+        }
+    }
+
+    private static class MarkTask<T> extends RecursiveAction {
+        private final Object[] data;
+        private final int from;
+        private final int to;
+        private final Predicate<? super T> filter;
+        private final long[] marks;
+
+        MarkTask(Object[] data, int from, int to, Predicate<? super T> filter, long[] marks) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+            this.filter = filter;
+            this.marks = marks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                markRange(data, from, to, filter, marks);
+                return;
+            }
+
+            // split on word boundaries so no two tasks write the same word
+            int mid = ((from + to) >>> 1) & -BITS_PER_WORD;
+            invokeAll(new MarkTask<>(data, from, mid, filter, marks),
+                    new MarkTask<>(data, mid, to, filter, marks));
+        }
+    }
+}
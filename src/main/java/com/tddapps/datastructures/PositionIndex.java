@@ -0,0 +1,120 @@
+package com.tddapps.datastructures;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Maps every distinct element of a list to its number of occurrences and the position of
+ * the first one, so membership and first-index lookups are O(1) expected.
+ * Appends and in-place replacements update it in O(1); removals and inserts in the middle
+ * also have to move the positions that come after the edit.
+ */
+class PositionIndex {
+    private static final int NOT_FOUND = -1;
+
+    private final HashMap<Object, Entry> entries = new HashMap<>();
+
+    void rebuild(Object[] data, int size) {
+        entries.clear();
+
+        for (int i = 0; i < size; i++) {
+            onAppend(data[i], i);
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    boolean contains(Object o) {
+        return entries.containsKey(o);
+    }
+
+    int firstIndexOf(Object o) {
+        var entry = entries.get(o);
+        return entry == null ? NOT_FOUND : entry.first;
+    }
+
+    void onAppend(Object e, int index) {
+        var entry = entries.get(e);
+
+        if (entry == null) {
+            entries.put(e, new Entry(index));
+        } else {
+            entry.count++;
+        }
+    }
+
+    void onInsert(Object e, int index) {
+        for (var entry : entries.values()) {
+            if (entry.first >= index) {
+                entry.first++;
+            }
+        }
+
+        addOccurrence(e, index);
+    }
+
+    void onSet(Object previous, Object e, int index, Object[] data, int size) {
+        if (Objects.equals(previous, e)) {
+            return;
+        }
+
+        removeOccurrence(previous, index, data, index + 1, size);
+        addOccurrence(e, index);
+    }
+
+    /**
+     * Must be called once the elements after index have been shifted left.
+     */
+    void onRemove(Object removed, int index, Object[] data, int size) {
+        for (var entry : entries.values()) {
+            if (entry.first > index) {
+                entry.first--;
+            }
+        }
+
+        removeOccurrence(removed, index, data, index, size);
+    }
+
+    private void addOccurrence(Object e, int index) {
+        var entry = entries.get(e);
+
+        if (entry == null) {
+            entries.put(e, new Entry(index));
+        } else {
+            entry.count++;
+            entry.first = Math.min(entry.first, index);
+        }
+    }
+
+    private void removeOccurrence(Object e, int index, Object[] data, int searchFrom, int size) {
+        var entry = entries.get(e);
+        entry.count--;
+
+        if (entry.count == 0) {
+            entries.remove(e);
+        } else if (entry.first == index) {
+            entry.first = nextIndexOf(e, data, searchFrom, size);
+        }
+    }
+
+    private static int nextIndexOf(Object e, Object[] data, int from, int size) {
+        for (int i = from; i < size; i++) {
+            if (Objects.equals(e, data[i])) {
+                return i;
+            }
+        }
+
+        throw new IllegalStateException("index is out of sync with the list");
+    }
+
+    private static final class Entry {
+        private int count = 1;
+        private int first;
+
+        private Entry(int first) {
+            this.first = first;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.tddapps.datastructures;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An array backed collection that keeps its elements ordered by a {@link Comparator}.
+ * Lookups use binary search and {@link #addAll(Collection)} sorts the incoming batch and
+ * merges it in a single pass, which costs O(n + k log k) instead of k separate inserts.
+ * Equality for lookups and removals is decided by the comparator, like in a TreeSet.
+ * Elements that compare as equal keep their insertion order.
+ */
+public class SortedArrayList<T> extends AbstractCollection<T> {
+    private static final int NOT_FOUND = -1;
+
+    private final Comparator<? super T> comparator;
+    private final CapacityPolicy capacityPolicy;
+    private int size = 0;
+    private long changeOperationsCount = 0;
+    private Object[] data;
+
+    public SortedArrayList(Comparator<? super T> comparator) {
+        this(comparator, ArrayList.DEFAULT_CAPACITY);
+    }
+
+    public SortedArrayList(Comparator<? super T> comparator, int initialCapacity) {
+        this(comparator, initialCapacity, CapacityPolicy.halving());
+    }
+
+    public SortedArrayList(Comparator<? super T> comparator, int initialCapacity, CapacityPolicy capacityPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity cannot be negative");
+        }
+
+        this.comparator = Objects.requireNonNull(comparator);
+        this.capacityPolicy = Objects.requireNonNull(capacityPolicy);
+        data = new Object[initialCapacity];
+    }
+
+    int capacity() {
+        return data.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        validateIndexIsWithinBounds(index);
+
+        return (T) data[index];
+    }
+
+    @Override
+    public boolean add(T t) {
+        trackModification();
+
+        if (isFull(1)) {
+            growCapacityToFit(1);
+        }
+
+        int index = upperBound(t);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = t;
+        size++;
+
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        var batch = (T[]) c.toArray();
+        int additionsCount = batch.length;
+
+        if (additionsCount == 0) {
+            return false;
+        }
+
+        trackModification();
+        Arrays.sort(batch, comparator);
+
+        if (isFull(additionsCount)) {
+            growCapacityToFit(additionsCount);
+        }
+
+        int read = size - 1;
+        int incoming = additionsCount - 1;
+        int write = size + additionsCount - 1;
+
+        while (incoming >= 0) {
+            if (read >= 0 && compare(data[read], batch[incoming]) > 0) {
+                data[write--] = data[read--];
+            } else {
+                data[write--] = batch[incoming--];
+            }
+        }
+
+        size += additionsCount;
+
+        return true;
+    }
+
+    /**
+     * Returns the position of the first element that compares as equal to o, or -1.
+     */
+    public int indexOf(Object o) {
+        int index = lowerBound((T) o);
+
+        if (index < size && compare(data[index], o) == 0) {
+            return index;
+        }
+
+        return NOT_FOUND;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index == NOT_FOUND) {
+            return false;
+        }
+
+        removeAt(index);
+        return true;
+    }
+
+    public T removeAt(int index) {
+        validateIndexIsWithinBounds(index);
+        trackModification();
+
+        var result = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        data[--size] = null;
+
+        shrinkCapacity();
+        return (T) result;
+    }
+
+    @Override
+    public void clear() {
+        trackModification();
+
+        Arrays.fill(data, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private long initialState = changeOperationsCount;
+            private int index = 0;
+            private int lastReturned = NOT_FOUND;
+
+            @Override
+            public boolean hasNext() {
+                validateState();
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = index++;
+                return (T) data[lastReturned];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == NOT_FOUND) {
+                    throw new IllegalStateException();
+                }
+
+                validateState();
+                removeAt(lastReturned);
+
+                index = lastReturned;
+                lastReturned = NOT_FOUND;
+                initialState = changeOperationsCount;
+            }
+
+            private void validateState() {
+                if (initialState != changeOperationsCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    private int lowerBound(T t) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(data[mid], t) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private int upperBound(T t) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(data[mid], t) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private int compare(Object a, Object b) {
+        return comparator.compare((T) a, (T) b);
+    }
+
+    private boolean isFull(int additionalCount) {
+        return data.length - size < additionalCount;
+    }
+
+    private void growCapacityToFit(int additionalCount) {
+        changeCapacity(capacityPolicy.grow(data.length, size + additionalCount));
+    }
+
+    private void shrinkCapacity() {
+        int newCapacity = capacityPolicy.shrink(data.length, size);
+
+        if (newCapacity < data.length) {
+            changeCapacity(newCapacity);
+        }
+    }
+
+    private void changeCapacity(int newCapacity) {
+        data = Arrays.copyOf(data, newCapacity);
+    }
+
+    private void trackModification() {
+        changeOperationsCount++;
+    }
+
+    private void validateIndexIsWithinBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.tddapps.datastructures;
+
+/**
+ * Supplies and recycles the backing arrays of a list.
+ */
+public interface StoragePool {
+    /**
+     * Returns an array of exactly the given length with every slot null.
+     */
+    Object[] acquire(int capacity);
+
+    /**
+     * Takes back an array the caller no longer references. The pool clears it before reuse.
+     */
+    void release(Object[] array);
+
+    /**
+     * Always allocates and lets released arrays be garbage collected.
+     */
+    static StoragePool none() {
+        return BoundedStoragePool.NONE;
+    }
+
+    /**
+     * Keeps up to maxArraysPerCapacity released arrays of each length for reuse.
+     */
+    static StoragePool bounded(int maxArraysPerCapacity) {
+        return new BoundedStoragePool(maxArraysPerCapacity);
+    }
+}
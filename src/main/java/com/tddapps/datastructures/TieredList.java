@@ -0,0 +1,362 @@
+package com.tddapps.datastructures;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A list made of bounded-size array blocks. Inserting or removing at an arbitrary position
+ * only shifts elements inside one block and updates the block offsets, which costs
+ * O(blockCapacity + size / blockCapacity) instead of O(size). Reads locate the block
+ * with a binary search over the offsets, remembering the last block for sequential access.
+ * <p>
+ * Blocks that drop below a quarter of the capacity merge with, or borrow from, a neighbour,
+ * so there are at most about 4 * size / blockCapacity blocks. Lists created without an
+ * explicit block capacity rebuild their blocks around sqrt(size) as they grow and shrink,
+ * keeping positional edits at O(sqrt(size)).
+ */
+public class TieredList<T> extends AbstractList<T> {
+    static final int MIN_ADAPTIVE_BLOCK_CAPACITY = 64;
+    private static final int INITIAL_DIRECTORY_LENGTH = 4;
+    private static final int NOT_FOUND = -1;
+
+    private final boolean adaptive;
+    private int blockCapacity;
+    private Object[][] blocks = new Object[INITIAL_DIRECTORY_LENGTH][];
+    private int[] blockSizes = new int[INITIAL_DIRECTORY_LENGTH];
+    private int[] blockOffsets = new int[INITIAL_DIRECTORY_LENGTH];
+    private int blockCount = 0;
+    private int lastBlock = 0;
+    private int size = 0;
+
+    public TieredList() {
+        this(MIN_ADAPTIVE_BLOCK_CAPACITY, true);
+    }
+
+    public TieredList(int blockCapacity) {
+        this(blockCapacity, false);
+    }
+
+    private TieredList(int blockCapacity, boolean adaptive) {
+        if (blockCapacity < 2) {
+            throw new IllegalArgumentException("blockCapacity must be at least two");
+        }
+
+        this.blockCapacity = blockCapacity;
+        this.adaptive = adaptive;
+    }
+
+    int blockCount() {
+        return blockCount;
+    }
+
+    int blockCapacity() {
+        return blockCapacity;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        validateIndexIsWithinBounds(index);
+
+        int block = blockOf(index);
+        return (T) blocks[block][index - blockOffsets[block]];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        validateIndexIsWithinBounds(index);
+
+        int block = blockOf(index);
+        int position = index - blockOffsets[block];
+        var result = blocks[block][position];
+        blocks[block][position] = element;
+        return (T) result;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        validateIndexIsWithinInsertionBounds(index);
+        modCount++;
+
+        if (blockCount == 0) {
+            insertBlock(0, 0);
+        }
+
+        int block = index == size ? blockCount - 1 : blockOf(index);
+        int position = index - blockOffsets[block];
+
+        if (blockSizes[block] == blockCapacity) {
+            if (index == size) {
+                insertBlock(blockCount, size);
+                block = blockCount - 1;
+                position = 0;
+            } else {
+                splitBlock(block);
+                if (position > blockSizes[block]) {
+                    position -= blockSizes[block];
+                    block++;
+                }
+            }
+        }
+
+        var elements = blocks[block];
+        System.arraycopy(elements, position, elements, position + 1, blockSizes[block] - position);
+        elements[position] = element;
+        blockSizes[block]++;
+        shiftOffsetsAfter(block, 1);
+        size++;
+        lastBlock = block;
+
+        if (adaptive && blockCount > 2 * blockCapacity) {
+            rebuild(adaptiveCapacityFor(size));
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        validateIndexIsWithinBounds(index);
+        modCount++;
+
+        int block = blockOf(index);
+        int position = index - blockOffsets[block];
+        var elements = blocks[block];
+        var result = elements[position];
+
+        System.arraycopy(elements, position + 1, elements, position, blockSizes[block] - position - 1);
+        elements[--blockSizes[block]] = null;
+        shiftOffsetsAfter(block, -1);
+        size--;
+
+        if (blockSizes[block] == 0) {
+            removeBlock(block);
+        } else {
+            rebalance(block);
+        }
+
+        lastBlock = 0;
+
+        if (adaptive && blockCapacity > MIN_ADAPTIVE_BLOCK_CAPACITY && size < blockCapacity * blockCapacity / 16) {
+            rebuild(adaptiveCapacityFor(size));
+        }
+
+        return (T) result;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+
+        Arrays.fill(blocks, 0, blockCount, null);
+        blockCount = 0;
+        lastBlock = 0;
+        size = 0;
+
+        if (adaptive) {
+            blockCapacity = MIN_ADAPTIVE_BLOCK_CAPACITY;
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int b = 0; b < blockCount; b++) {
+            var elements = blocks[b];
+            for (int i = 0; i < blockSizes[b]; i++) {
+                if (Objects.equals(o, elements[i])) {
+                    return blockOffsets[b] + i;
+                }
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    @Override
+    public Object[] toArray() {
+        var result = new Object[size];
+        for (int b = 0; b < blockCount; b++) {
+            System.arraycopy(blocks[b], 0, result, blockOffsets[b], blockSizes[b]);
+        }
+        return result;
+    }
+
+    private int blockOf(int index) {
+        int hint = lastBlock;
+        if (hint < blockCount && index >= blockOffsets[hint] && index < blockOffsets[hint] + blockSizes[hint]) {
+            return hint;
+        }
+
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blockOffsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        lastBlock = low;
+        return low;
+    }
+
+    private void splitBlock(int block) {
+        int half = blockSizes[block] >> 1;
+        int moved = blockSizes[block] - half;
+        insertBlock(block + 1, blockOffsets[block] + half);
+
+        System.arraycopy(blocks[block], half, blocks[block + 1], 0, moved);
+        Arrays.fill(blocks[block], half, blockSizes[block], null);
+        blockSizes[block] = half;
+        blockSizes[block + 1] = moved;
+    }
+
+    /**
+     * Merges the block with its smaller neighbour when both fit in half a block, or when the
+     * block is under a quarter full; an underfull block that cannot merge borrows elements
+     * from the neighbour instead.
+     */
+    private void rebalance(int block) {
+        int neighbour = smallerNeighbourOf(block);
+        if (neighbour == NOT_FOUND) {
+            return;
+        }
+
+        int left = Math.min(block, neighbour);
+        int combined = blockSizes[block] + blockSizes[neighbour];
+        boolean underfull = blockSizes[block] < Math.max(1, blockCapacity / 4);
+
+        if (combined <= blockCapacity / 2 || (underfull && combined <= blockCapacity)) {
+            mergeWithNext(left);
+        } else if (underfull) {
+            redistributeWithNext(left);
+        }
+    }
+
+    private int smallerNeighbourOf(int block) {
+        int previous = block - 1;
+        int next = block + 1;
+
+        if (previous < 0) {
+            return next < blockCount ? next : NOT_FOUND;
+        }
+
+        if (next >= blockCount || blockSizes[previous] <= blockSizes[next]) {
+            return previous;
+        }
+
+        return next;
+    }
+
+    private void mergeWithNext(int block) {
+        int next = block + 1;
+
+        System.arraycopy(blocks[next], 0, blocks[block], blockSizes[block], blockSizes[next]);
+        blockSizes[block] += blockSizes[next];
+        removeBlock(next);
+    }
+
+    private void redistributeWithNext(int block) {
+        int next = block + 1;
+        int leftSize = (blockSizes[block] + blockSizes[next]) >> 1;
+        int delta = leftSize - blockSizes[block];
+
+        if (delta > 0) {
+            System.arraycopy(blocks[next], 0, blocks[block], blockSizes[block], delta);
+            System.arraycopy(blocks[next], delta, blocks[next], 0, blockSizes[next] - delta);
+            Arrays.fill(blocks[next], blockSizes[next] - delta, blockSizes[next], null);
+        } else {
+            int moved = -delta;
+            System.arraycopy(blocks[next], 0, blocks[next], moved, blockSizes[next]);
+            System.arraycopy(blocks[block], leftSize, blocks[next], 0, moved);
+            Arrays.fill(blocks[block], leftSize, blockSizes[block], null);
+        }
+
+        blockSizes[block] = leftSize;
+        blockSizes[next] -= delta;
+        blockOffsets[next] = blockOffsets[block] + leftSize;
+    }
+
+    /**
+     * Lays the elements out again in blocks of the new capacity, three quarters full so
+     * inserts do not split right away.
+     */
+    private void rebuild(int newBlockCapacity) {
+        var elements = toArray();
+        int fill = Math.max(1, newBlockCapacity * 3 / 4);
+        int count = (elements.length + fill - 1) / fill;
+        int length = Math.max(INITIAL_DIRECTORY_LENGTH, Integer.highestOneBit(Math.max(1, count)) << 1);
+
+        blockCapacity = newBlockCapacity;
+        blocks = new Object[length][];
+        blockSizes = new int[length];
+        blockOffsets = new int[length];
+        blockCount = 0;
+        lastBlock = 0;
+
+        for (int offset = 0; offset < elements.length; offset += fill) {
+            int block = blockCount;
+            insertBlock(block, offset);
+            int blockSize = Math.min(fill, elements.length - offset);
+            System.arraycopy(elements, offset, blocks[block], 0, blockSize);
+            blockSizes[block] = blockSize;
+        }
+    }
+
+    private static int adaptiveCapacityFor(int size) {
+        int root = (int) Math.sqrt(size);
+        return Math.max(MIN_ADAPTIVE_BLOCK_CAPACITY, Integer.highestOneBit(Math.max(1, root)) << 1);
+    }
+
+    private void insertBlock(int block, int offset) {
+        if (blockCount == blocks.length) {
+            int length = blocks.length << 1;
+            blocks = Arrays.copyOf(blocks, length);
+            blockSizes = Arrays.copyOf(blockSizes, length);
+            blockOffsets = Arrays.copyOf(blockOffsets, length);
+        }
+
+        int moved = blockCount - block;
+        System.arraycopy(blocks, block, blocks, block + 1, moved);
+        System.arraycopy(blockSizes, block, blockSizes, block + 1, moved);
+        System.arraycopy(blockOffsets, block, blockOffsets, block + 1, moved);
+
+        blocks[block] = new Object[blockCapacity];
+        blockSizes[block] = 0;
+        blockOffsets[block] = offset;
+        blockCount++;
+    }
+
+    private void removeBlock(int block) {
+        int moved = blockCount - block - 1;
+        System.arraycopy(blocks, block + 1, blocks, block, moved);
+        System.arraycopy(blockSizes, block + 1, blockSizes, block, moved);
+        System.arraycopy(blockOffsets, block + 1, blockOffsets, block, moved);
+
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+
+    private void shiftOffsetsAfter(int block, int delta) {
+        for (int b = block + 1; b < blockCount; b++) {
+            blockOffsets[b] += delta;
+        }
+    }
+
+    private void validateIndexIsWithinBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private void validateIndexIsWithinInsertionBounds(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
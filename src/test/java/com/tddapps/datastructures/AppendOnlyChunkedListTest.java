@@ -0,0 +1,106 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AppendOnlyChunkedListTest {
+    @Test
+    void EmptyByDefault() {
+        var l = new AppendOnlyChunkedList<String>();
+
+        assertTrue(l.isEmpty());
+        assertEquals(0, l.size());
+    }
+
+    @Test
+    void ChunkSizeMustBeAPowerOfTwo(){
+        assertThrows(IllegalArgumentException.class, () -> new AppendOnlyChunkedList<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new AppendOnlyChunkedList<>(3));
+    }
+
+    @Test
+    void AddsElementsAcrossChunks(){
+        var l = new AppendOnlyChunkedList<Integer>(4);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(l.add(i));
+        }
+        assertTrue(l.addAll(List.of(100, 101)));
+        assertFalse(l.addAll(List.of()));
+
+        assertEquals(102, l.size());
+        for (int i = 0; i < 102; i++) {
+            assertEquals(i, l.get(i));
+        }
+    }
+
+    @Test
+    void RejectsNulls(){
+        var l = new AppendOnlyChunkedList<String>();
+
+        assertThrows(NullPointerException.class, () -> l.add(null));
+        assertThrows(NullPointerException.class, () -> l.addAll(Arrays.asList("1", null)));
+        assertTrue(l.isEmpty());
+    }
+
+    @Test
+    void GetThrowsIndexOutOfBoundsExceptionWhenPositionIsInvalid(){
+        var l = new AppendOnlyChunkedList<String>();
+        l.add("1");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.get(1));
+    }
+
+    @Test
+    void IteratesOverTheElementsPresentWhenTheIteratorWasCreated(){
+        var l = new AppendOnlyChunkedList<String>();
+        l.add("1");
+        l.add("2");
+
+        var count = new int[]{0};
+        l.forEach(i -> {
+            l.add(i);
+            count[0]++;
+        });
+
+        assertEquals(2, count[0]);
+        assertArrayEquals(new Object[]{"1", "2", "1", "2"}, l.toArray());
+    }
+
+    @Test
+    void IsThreadSafe() throws InterruptedException {
+        int threadCount = 4;
+        int perThread = 50000;
+        var l = new AppendOnlyChunkedList<Integer>(64);
+
+        var threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int offset = t * perThread;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    l.add(offset + i);
+                }
+            });
+        }
+
+        for (var t : threads) {
+            t.start();
+        }
+        for (var t : threads) {
+            t.join(10000);
+        }
+
+        assertEquals(threadCount * perThread, l.size());
+
+        var seen = new boolean[threadCount * perThread];
+        for (int i : l) {
+            assertFalse(seen[i]);
+            seen[i] = true;
+        }
+    }
+}
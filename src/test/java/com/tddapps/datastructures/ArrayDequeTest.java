@@ -0,0 +1,197 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayDequeTest {
+    @Test
+    void EmptyByDefault() {
+        var d = new ArrayDeque<String>();
+
+        assertTrue(d.isEmpty());
+        assertEquals(10, d.capacity());
+        assertNull(d.pollFirst());
+        assertNull(d.pollLast());
+        assertNull(d.peek());
+        assertThrows(NoSuchElementException.class, d::removeFirst);
+        assertThrows(NoSuchElementException.class, d::getLast);
+    }
+
+    @Test
+    void CapacityCannotBeNegative(){
+        assertThrows(IllegalArgumentException.class, () -> new ArrayDeque<>(-1));
+    }
+
+    @Test
+    void RejectsNulls(){
+        var d = new ArrayDeque<String>();
+
+        assertThrows(NullPointerException.class, () -> d.addFirst(null));
+        assertThrows(NullPointerException.class, () -> d.addLast(null));
+    }
+
+    @Test
+    void AddsAndRemovesAtBothEnds(){
+        var d = new ArrayDeque<Integer>(0);
+        d.addLast(2);
+        d.addFirst(1);
+        d.addLast(3);
+        d.push(0);
+
+        assertArrayEquals(new Object[]{0, 1, 2, 3}, d.toArray());
+        assertEquals(0, d.peekFirst());
+        assertEquals(3, d.peekLast());
+
+        assertEquals(0, d.pop());
+        assertEquals(3, d.pollLast());
+        assertEquals(1, d.poll());
+        assertEquals(2, d.removeLast());
+        assertTrue(d.isEmpty());
+    }
+
+    @Test
+    void WrapsAroundTheBufferWithoutGrowing(){
+        var d = new ArrayDeque<Integer>(4, CapacityPolicy.neverShrink());
+        for (int i = 0; i < 100; i++) {
+            d.addLast(i);
+            d.addLast(i);
+            assertEquals(i, d.pollFirst());
+            assertEquals(i, d.pollFirst());
+        }
+
+        d.addLast(1);
+        d.addLast(2);
+        d.addFirst(0);
+        assertArrayEquals(new Object[]{0, 1, 2}, d.toArray());
+        assertEquals(4, d.capacity());
+    }
+
+    @Test
+    void CapacityGrowsAndShrinksWithThePolicy(){
+        var d = new ArrayDeque<Integer>(2);
+        d.addFirst(2);
+        d.addFirst(1);
+        d.addFirst(0);
+
+        assertEquals(4, d.capacity());
+        assertArrayEquals(new Object[]{0, 1, 2}, d.toArray());
+
+        d.pollLast();
+        d.pollLast();
+        assertEquals(2, d.capacity());
+        assertArrayEquals(new Object[]{0}, d.toArray());
+    }
+
+    @Test
+    void RemovesOccurrences(){
+        var d = new ArrayDeque<String>();
+        d.addAll(List.of("a", "b", "a", "c", "a"));
+
+        assertTrue(d.removeFirstOccurrence("a"));
+        assertTrue(d.removeLastOccurrence("a"));
+        assertFalse(d.remove("x"));
+        assertArrayEquals(new Object[]{"b", "a", "c"}, d.toArray());
+        assertTrue(d.contains("c"));
+        assertFalse(d.contains("x"));
+    }
+
+    @Test
+    void IteratesInBothDirections(){
+        var d = new ArrayDeque<Integer>(4);
+        d.addLast(2);
+        d.addLast(3);
+        d.addFirst(1);
+        d.addFirst(0);
+
+        var ascending = new java.util.ArrayList<Integer>();
+        d.iterator().forEachRemaining(ascending::add);
+        var descending = new java.util.ArrayList<Integer>();
+        d.descendingIterator().forEachRemaining(descending::add);
+
+        assertEquals(List.of(0, 1, 2, 3), ascending);
+        assertEquals(List.of(3, 2, 1, 0), descending);
+    }
+
+    @Test
+    void IteratorCanRemoveElements(){
+        var d = new ArrayDeque<Integer>();
+        for (int i = 0; i < 10; i++) {
+            d.addLast(i);
+        }
+
+        d.removeIf(i -> i % 3 == 0);
+        assertArrayEquals(new Object[]{1, 2, 4, 5, 7, 8}, d.toArray());
+
+        var descending = d.descendingIterator();
+        while (descending.hasNext()) {
+            if (descending.next() % 2 == 0) {
+                descending.remove();
+            }
+        }
+        assertArrayEquals(new Object[]{1, 5, 7}, d.toArray());
+    }
+
+    @Test
+    void CannotAddWhileIterating(){
+        var d = new ArrayDeque<String>();
+        d.addLast("1");
+
+        assertThrows(ConcurrentModificationException.class, () -> d.forEach(d::addFirst));
+    }
+
+    @Test
+    void CannotPollWhileIterating(){
+        var d = new ArrayDeque<String>();
+        d.addLast("1");
+        d.addLast("2");
+
+        assertThrows(ConcurrentModificationException.class, () -> d.forEach(i -> d.pollLast()));
+    }
+
+    @Test
+    void BehavesLikeTheJdkDeque(){
+        var random = new Random(3);
+        var expected = new java.util.ArrayDeque<Integer>();
+        var d = new ArrayDeque<Integer>(1);
+
+        for (int i = 0; i < 5000; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    expected.addFirst(i);
+                    d.addFirst(i);
+                    break;
+                case 1:
+                    expected.addLast(i);
+                    d.addLast(i);
+                    break;
+                case 2:
+                    assertEquals(expected.pollFirst(), d.pollFirst());
+                    break;
+                default:
+                    assertEquals(expected.pollLast(), d.pollLast());
+                    break;
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), d.toArray());
+    }
+
+    @Test
+    void ClearsTheDeque(){
+        var d = new ArrayDeque<String>();
+        d.addLast("a");
+        d.addFirst("b");
+
+        d.clear();
+
+        assertTrue(d.isEmpty());
+        d.addLast("c");
+        assertEquals("c", d.getFirst());
+    }
+}
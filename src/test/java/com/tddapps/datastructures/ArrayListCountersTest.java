@@ -0,0 +1,63 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayListCountersTest {
+    @Test
+    void GroupsScanLengthsInPowerOfTwoBuckets(){
+        assertEquals(0, ArrayListCounters.bucketOf(0));
+        assertEquals(1, ArrayListCounters.bucketOf(1));
+        assertEquals(2, ArrayListCounters.bucketOf(2));
+        assertEquals(2, ArrayListCounters.bucketOf(3));
+        assertEquals(3, ArrayListCounters.bucketOf(4));
+        assertEquals(11, ArrayListCounters.bucketOf(1024));
+        assertEquals(31, ArrayListCounters.bucketOf(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void CountsScans(){
+        var counters = new ArrayListCounters();
+
+        counters.onScan(0);
+        counters.onScan(5);
+        counters.onScan(7);
+
+        assertEquals(3, counters.scanCount());
+        assertEquals(12, counters.scannedElements());
+
+        var histogram = counters.scanLengthHistogram();
+        assertEquals(1, histogram[0]);
+        assertEquals(2, histogram[3]);
+    }
+
+    @Test
+    void SeparatesGrowsShrinksAndCopies(){
+        var counters = new ArrayListCounters();
+
+        counters.onResize(10, 20, 10);
+        counters.onResize(20, 10, 4);
+        counters.onResize(10, 10, 6);
+
+        assertEquals(1, counters.growCount());
+        assertEquals(1, counters.shrinkCount());
+        assertEquals(20, counters.copiedElements());
+    }
+
+    @Test
+    void ResetsEveryCounter(){
+        var counters = new ArrayListCounters();
+        counters.onResize(1, 2, 1);
+        counters.onScan(3);
+        counters.onConcurrentModification();
+
+        counters.reset();
+
+        assertEquals(0, counters.growCount());
+        assertEquals(0, counters.copiedElements());
+        assertEquals(0, counters.scanCount());
+        assertEquals(0, counters.concurrentModificationCount());
+        assertArrayEquals(new long[ArrayListCounters.BUCKET_COUNT], counters.scanLengthHistogram());
+    }
+}
@@ -0,0 +1,121 @@
+package com.tddapps.datastructures;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayListEventsTest {
+    private static final String CAPACITY_CHANGE = "com.tddapps.datastructures.CapacityChange";
+    private static final String BULK_OPERATION = "com.tddapps.datastructures.BulkOperation";
+    private static final String LONG_SCAN = "com.tddapps.datastructures.LongScan";
+
+    @TempDir
+    Path folder;
+
+    private List<RecordedEvent> record(String eventName, Duration threshold, Runnable action) throws IOException {
+        var file = folder.resolve("recording.jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable(eventName).withThreshold(threshold);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void RecordsCapacityChangesWithTheirTrigger() throws IOException {
+        var events = record(CAPACITY_CHANGE, Duration.ZERO, () -> {
+            var l = new ArrayList<Integer>(2);
+            l.add(1);
+            l.add(2);
+            l.add(3);
+            l.trimToSize();
+        });
+
+        assertEquals(2, events.size());
+
+        var grow = events.get(0);
+        assertEquals(2, grow.getInt("oldCapacity"));
+        assertEquals(4, grow.getInt("newCapacity"));
+        assertEquals(2, grow.getInt("elementsCopied"));
+        assertTrue(grow.getLong("bytesCopied") >= 2 * Integer.BYTES);
+        assertEquals("add", grow.getString("trigger"));
+
+        var trim = events.get(1);
+        assertEquals(4, trim.getInt("oldCapacity"));
+        assertEquals(3, trim.getInt("newCapacity"));
+        assertEquals("trimToSize", trim.getString("trigger"));
+    }
+
+    @Test
+    void RecordsBulkOperations() throws IOException {
+        var events = record(BULK_OPERATION, Duration.ZERO, () -> {
+            var l = new ArrayList<Integer>();
+            l.addAll(List.of(1, 2, 3, 4));
+            l.removeAll(List.of(1));
+            l.retainAll(List.of(2, 3));
+            l.addAll(0, List.of(9));
+        });
+
+        assertEquals(List.of("addAll", "removeAll", "retainAll", "addAll"),
+                events.stream().map(e -> e.getString("operation")).collect(Collectors.toList()));
+
+        var removeAll = events.get(1);
+        assertEquals(4, removeAll.getInt("sizeBefore"));
+        assertEquals(1, removeAll.getInt("inputSize"));
+        assertEquals(3, removeAll.getInt("sizeAfter"));
+        assertNotNull(removeAll.getDuration());
+    }
+
+    @Test
+    void RecordsScansLongerThanTheThreshold() throws IOException {
+        var events = record(LONG_SCAN, Duration.ZERO, () -> {
+            var l = new ArrayList<Integer>();
+            for (int i = 0; i < 100; i++) {
+                l.add(i);
+            }
+            l.indexOf(-1);
+            l.lastIndexOf(90);
+        });
+
+        assertEquals(2, events.size());
+
+        var missing = events.get(0);
+        assertEquals("indexOf", missing.getString("operation"));
+        assertEquals(100, missing.getInt("listSize"));
+        assertEquals(100, missing.getInt("elementsScanned"));
+        assertFalse(missing.getBoolean("found"));
+
+        var last = events.get(1);
+        assertEquals("lastIndexOf", last.getString("operation"));
+        assertEquals(10, last.getInt("elementsScanned"));
+        assertTrue(last.getBoolean("found"));
+    }
+
+    @Test
+    void SkipsScansShorterThanTheThreshold() throws IOException {
+        var events = record(LONG_SCAN, Duration.ofHours(1), () -> {
+            var l = new ArrayList<Integer>();
+            l.add(1);
+            l.indexOf(-1);
+        });
+
+        assertTrue(events.isEmpty());
+    }
+}
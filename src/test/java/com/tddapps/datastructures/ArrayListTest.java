@@ -4,7 +4,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -593,6 +599,28 @@ public class ArrayListTest {
         assertEquals(4, l.capacity());
     }
 
+    @Test
+    void RemoveAllHandlesLargeCollections(){
+        var l2 = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i += 2) {
+            l2.add(i);
+        }
+        l2.add(null);
+
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            l.add(i);
+        }
+        l.add(null);
+
+        assertTrue(l.removeAll(l2));
+
+        assertEquals(500, l.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(2 * i + 1, l.get(i));
+        }
+    }
+
     @Test
     void RetainAllReturnsFalseWhenEmpty(){
         var l2 = new ArrayList<Integer>();
@@ -667,6 +695,23 @@ public class ArrayListTest {
         assertEquals(4, l.capacity());
     }
 
+    @Test
+    void RetainAllHandlesLargeCollections(){
+        var l2 = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i += 3) {
+            l2.add(i);
+        }
+
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            l.add(i);
+        }
+
+        assertTrue(l.retainAll(l2));
+
+        assertArrayEquals(l2.toArray(), l.toArray());
+    }
+
     @Test
     void ListWithTheSameElementsInTheSameOrderAreEqualEvenWhenCapacitiesDiffer(){
         int x = 2;
@@ -812,4 +857,1207 @@ public class ArrayListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> l.add(-1, "4"));
         assertThrows(IndexOutOfBoundsException.class, () -> l.add(1, "4"));
     }
+
+
+    @Test
+    void SnapshotContainsTheCurrentElements(){
+        var l = new ArrayList<String>();
+        l.add("1");
+        l.add("2");
+
+        var snapshot = l.snapshot();
+
+        assertEquals(2, snapshot.size());
+        assertEquals("1", snapshot.get(0));
+        assertArrayEquals(new Object[]{"1", "2"}, snapshot.toArray());
+        assertEquals(snapshot, List.of("1", "2"));
+    }
+
+    @Test
+    void SnapshotIsImmutable(){
+        var l = new ArrayList<String>();
+        l.add("1");
+
+        var snapshot = l.snapshot();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("2"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set(0, "2"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1));
+    }
+
+    @Test
+    void SnapshotDoesNotSeeLaterModifications(){
+        var l = new ArrayList<String>(8);
+        l.add("1");
+        l.add("2");
+        l.add("3");
+
+        var snapshot = l.snapshot();
+        l.set(0, "a");
+        l.remove("2");
+        l.add("4");
+        var second = l.snapshot();
+        l.clear();
+        l.add("b");
+
+        assertArrayEquals(new Object[]{"1", "2", "3"}, snapshot.toArray());
+        assertArrayEquals(new Object[]{"a", "3", "4"}, second.toArray());
+        assertArrayEquals(new Object[]{"b"}, l.toArray());
+    }
+
+    @Test
+    void AppendingAfterASnapshotDoesNotCopyTheElements(){
+        var l = new ArrayList<String>(8);
+        l.add("1");
+
+        var snapshot = l.snapshot();
+        l.add("2");
+        l.addAll(List.of("3", "4"));
+
+        assertArrayEquals(new Object[]{"1"}, snapshot.toArray());
+        assertArrayEquals(new Object[]{"1", "2", "3", "4"}, l.toArray());
+    }
+
+    @Test
+    void CanIterateASnapshotWhileModifyingTheList(){
+        var l = new ArrayList<String>();
+        l.add("1");
+        l.add("2");
+
+        var count = new int[]{0};
+        l.snapshot().forEach(i -> {
+            l.add(i);
+            l.remove("1");
+            count[0]++;
+        });
+
+        assertEquals(2, count[0]);
+        assertArrayEquals(new Object[]{"2", "2"}, l.toArray());
+    }
+
+    @Test
+    void SnapshotIteratorNeverReadsPastTheSnapshotSize(){
+        var l = new ArrayList<String>();
+        l.add("one");
+        var iterator = l.snapshot().iterator();
+
+        l.add("two");
+
+        assertEquals("one", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void IteratorThrowsNoSuchElementExceptionWhenExhausted(){
+        var l = new ArrayList<String>();
+        l.add("one");
+        var iterator = l.iterator();
+
+        iterator.next();
+
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void SpliteratorIsSizedAndOrdered(){
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            l.add(i);
+        }
+
+        var spliterator = l.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(100, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void SpliteratorSplitsInBalancedHalves(){
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 101; i++) {
+            l.add(i);
+        }
+
+        var second = l.spliterator();
+        var first = second.trySplit();
+
+        assertEquals(50, first.estimateSize());
+        assertEquals(51, second.estimateSize());
+
+        var firstElement = new int[]{-1};
+        assertTrue(first.tryAdvance(i -> firstElement[0] = i));
+        assertEquals(0, firstElement[0]);
+    }
+
+    @Test
+    void SpliteratorDoesNotSplitASingleElement(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+
+        assertNull(l.spliterator().trySplit());
+    }
+
+    @Test
+    void ParallelStreamsSeeEveryElement(){
+        var l = new ArrayList<Integer>();
+        for (int i = 1; i <= 100000; i++) {
+            l.add(i);
+        }
+
+        long sum = l.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertEquals(5000050000L, sum);
+        assertEquals(List.of(2, 4, 6), l.stream().limit(3).map(i -> i * 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    void StreamsSeeElementsAddedBeforeTheTerminalOperation(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+
+        var counted = l.stream();
+        var collected = l.stream();
+        l.add(2);
+
+        assertEquals(2, counted.count());
+        assertEquals(List.of(1, 2), collected.collect(Collectors.toList()));
+    }
+
+    @Test
+    void SpliteratorBindsOnFirstUse(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+
+        var spliterator = l.spliterator();
+        l.add(2);
+        l.add(3);
+
+        assertEquals(3, spliterator.estimateSize());
+        l.add(4);
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(i -> {}));
+    }
+
+    @Test
+    void CannotAddWhileStreaming(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        l.add(2);
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            l.stream().forEach(l::add);
+        });
+    }
+
+    @Test
+    void HysteresisPolicyDoesNotReallocateWhenTheSizeOscillates(){
+        var l = new ArrayList<Integer>(4, CapacityPolicy.withHysteresis());
+        for (int i = 0; i < 4; i++) {
+            l.add(i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            l.add(9);
+            assertEquals(8, l.capacity());
+            l.remove((Object) 9);
+            assertEquals(8, l.capacity());
+        }
+
+        l.remove((Object) 0);
+        l.remove((Object) 1);
+        assertEquals(8, l.capacity());
+
+        l.remove((Object) 2);
+        assertEquals(4, l.capacity());
+    }
+
+    @Test
+    void NeverShrinkPolicyKeepsTheCapacity(){
+        var l = new ArrayList<Integer>(0, CapacityPolicy.neverShrink());
+        for (int i = 0; i < 100; i++) {
+            l.add(i);
+        }
+
+        l.retainAll(List.of(1));
+
+        assertEquals(1, l.size());
+        assertEquals(128, l.capacity());
+    }
+
+    @Test
+    void CustomPolicyControlsGrowthAndMinimumCapacity(){
+        var l = new ArrayList<Integer>(0, new GeometricCapacityPolicy(1.5, 2, 4));
+
+        l.add(1);
+        assertEquals(4, l.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            l.add(i);
+        }
+        assertEquals(6, l.capacity());
+
+        l.removeAll(List.of(0, 1, 2, 3));
+        assertEquals(0, l.size());
+        assertEquals(4, l.capacity());
+    }
+
+    @Test
+    void CapacityPolicyIsRequired(){
+        assertThrows(NullPointerException.class, () -> new ArrayList<>(null));
+    }
+
+    @Test
+    void EnsureCapacityGrowsTheBackingArray(){
+        var l = new ArrayList<Integer>(4);
+        l.add(1);
+
+        l.ensureCapacity(2);
+        assertEquals(4, l.capacity());
+
+        l.ensureCapacity(100);
+        assertEquals(100, l.capacity());
+        assertArrayEquals(new Object[]{1}, l.toArray());
+    }
+
+    @Test
+    void TrimToSizeShrinksTheBackingArray(){
+        var l = new ArrayList<Integer>(100);
+        l.add(1);
+        l.add(2);
+
+        l.trimToSize();
+
+        assertEquals(2, l.capacity());
+        assertArrayEquals(new Object[]{1, 2}, l.toArray());
+    }
+
+    @Test
+    void ChangingCapacityInvalidatesIterators(){
+        var l = new ArrayList<Integer>(4);
+        l.add(1);
+
+        var beforeGrow = l.iterator();
+        l.ensureCapacity(100);
+        assertThrows(ConcurrentModificationException.class, beforeGrow::next);
+
+        var beforeTrim = l.iterator();
+        l.trimToSize();
+        assertThrows(ConcurrentModificationException.class, beforeTrim::next);
+    }
+
+    @Test
+    void NoOpCapacityChangesKeepIteratorsValid(){
+        var l = new ArrayList<Integer>(4);
+        l.add(1);
+
+        l.trimToSize();
+
+        var iterator = l.iterator();
+        l.ensureCapacity(1);
+        l.trimToSize();
+
+        assertEquals(1, iterator.next());
+    }
+
+    @Test
+    void AddsElementsInTheMiddleAndAtTheEnd(){
+        var l = new ArrayList<String>(2);
+        l.add("a");
+        l.add("c");
+
+        l.add(1, "b");
+        l.add(3, "d");
+
+        assertArrayEquals(new String[]{"a", "b", "c", "d"}, l.toArray());
+        assertEquals(4, l.capacity());
+    }
+
+    @Test
+    void CannotAddAtAPositionWhileIterating(){
+        var l = new ArrayList<String>();
+        l.add("1");
+
+        assertThrows(ConcurrentModificationException.class, () -> l.forEach(i -> l.add(0, "0")));
+    }
+
+    @Test
+    void RemoveAtAPositionReturnsTheRemovedElement(){
+        var l = new ArrayList<String>(4);
+        l.add("a");
+        l.add("b");
+        l.add("c");
+
+        assertEquals("b", l.remove(1));
+        assertArrayEquals(new String[]{"a", "c"}, l.toArray());
+
+        assertEquals("c", l.remove(1));
+        assertArrayEquals(new String[]{"a"}, l.toArray());
+        assertEquals(2, l.capacity());
+    }
+
+    @Test
+    void RemoveAtAPositionThrowsIndexOutOfBoundsWhenPositionIsInvalid(){
+        var l = new ArrayList<String>();
+        l.add("a");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.remove(1));
+    }
+
+    @Test
+    void CannotRemoveAtAPositionWhileIterating(){
+        var l = new ArrayList<String>();
+        l.add("1");
+        l.add("2");
+
+        assertThrows(ConcurrentModificationException.class, () -> l.forEach(i -> l.remove(0)));
+    }
+
+    @Test
+    void AddsAllTheElementsAtAPosition(){
+        var l = new ArrayList<Integer>(4);
+        l.add(1);
+        l.add(5);
+
+        assertTrue(l.addAll(1, List.of(2, 3, 4)));
+        assertArrayEquals(new Integer[]{1, 2, 3, 4, 5}, l.toArray());
+        assertEquals(8, l.capacity());
+
+        assertTrue(l.addAll(5, List.of(6)));
+        assertTrue(l.addAll(0, List.of(0)));
+        assertArrayEquals(new Integer[]{0, 1, 2, 3, 4, 5, 6}, l.toArray());
+
+        assertFalse(l.addAll(3, List.of()));
+    }
+
+    @Test
+    void AddsAllItsOwnElementsAtAPosition(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        l.add(2);
+
+        assertTrue(l.addAll(1, l));
+        assertArrayEquals(new Integer[]{1, 1, 2, 2}, l.toArray());
+    }
+
+    @Test
+    void AddAllAtAPositionThrowsIndexOutOfBoundsWhenPositionIsInvalid(){
+        var l = new ArrayList<Integer>();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.addAll(-1, List.of(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.addAll(1, List.of(1)));
+    }
+
+    @Test
+    void CannotAddAllAtAPositionWhileIterating(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+
+        assertThrows(ConcurrentModificationException.class, () -> l.forEach(i -> l.addAll(0, List.of(2))));
+    }
+
+    @Test
+    void LookupIndexFindsElements(){
+        var l = new ArrayList<String>();
+        l.add("a");
+        l.add(null);
+        l.add("b");
+        l.add("a");
+
+        l.enableLookupIndex();
+
+        assertEquals(0, l.indexOf("a"));
+        assertEquals(1, l.indexOf(null));
+        assertEquals(-1, l.indexOf("x"));
+        assertTrue(l.contains("b"));
+        assertTrue(l.containsAll(List.of("a", "b")));
+        assertFalse(l.contains("x"));
+    }
+
+    @Test
+    void LookupIndexFollowsModifications(){
+        var l = new ArrayList<String>();
+        l.enableLookupIndex();
+        l.add("a");
+        l.add("b");
+        l.add("a");
+
+        l.set(0, "c");
+        assertEquals(2, l.indexOf("a"));
+        assertEquals(0, l.indexOf("c"));
+
+        l.add(0, "a");
+        assertEquals(0, l.indexOf("a"));
+        assertEquals(1, l.indexOf("c"));
+
+        assertTrue(l.remove("a"));
+        assertEquals(2, l.indexOf("a"));
+        assertEquals(1, l.indexOf("b"));
+
+        l.remove(0);
+        assertEquals(-1, l.indexOf("c"));
+        assertEquals(0, l.indexOf("b"));
+
+        l.addAll(0, List.of("x", "b"));
+        assertEquals(1, l.indexOf("b"));
+
+        l.removeAll(List.of("b"));
+        assertArrayEquals(new Object[]{"x", "a"}, l.toArray());
+        assertEquals(1, l.indexOf("a"));
+
+        l.clear();
+        assertFalse(l.contains("x"));
+    }
+
+    @Test
+    void LookupIndexBehavesLikeALinearScan(){
+        var random = new java.util.Random(11);
+        var indexed = new ArrayList<Integer>();
+        indexed.enableLookupIndex();
+        var plain = new ArrayList<Integer>();
+
+        for (int i = 0; i < 3000; i++) {
+            int value = random.nextInt(50);
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    indexed.add(value);
+                    plain.add(value);
+                    break;
+                case 2:
+                    int position = random.nextInt(plain.size() + 1);
+                    indexed.add(position, value);
+                    plain.add(position, value);
+                    break;
+                case 3:
+                    assertEquals(plain.remove((Object) value), indexed.remove((Object) value));
+                    break;
+                case 4:
+                    if (!plain.isEmpty()) {
+                        int index = random.nextInt(plain.size());
+                        assertEquals(plain.set(index, value), indexed.set(index, value));
+                    }
+                    break;
+                default:
+                    if (!plain.isEmpty()) {
+                        int index = random.nextInt(plain.size());
+                        assertEquals(plain.remove(index), indexed.remove(index));
+                    }
+                    break;
+            }
+
+            assertEquals(plain.indexOf(value), indexed.indexOf(value));
+        }
+
+        assertEquals(plain, indexed);
+        for (int value = 0; value < 50; value++) {
+            assertEquals(plain.indexOf(value), indexed.indexOf(value));
+        }
+    }
+
+    @Test
+    void LookupIndexCanBeDisabled(){
+        var l = new ArrayList<String>();
+        l.enableLookupIndex();
+        l.add("a");
+
+        l.disableLookupIndex();
+        l.add(0, "b");
+
+        assertEquals(1, l.indexOf("a"));
+    }
+
+    @Test
+    void ForEachVisitsElementsInOrder(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        l.add(2);
+        l.add(3);
+
+        var visited = new java.util.ArrayList<Integer>();
+        l.forEach(visited::add);
+
+        assertEquals(List.of(1, 2, 3), visited);
+    }
+
+    @Test
+    void SortsElements(){
+        var l = new ArrayList<Integer>();
+        l.add(3);
+        l.add(1);
+        l.add(2);
+
+        l.sort(null);
+        assertEquals(List.of(1, 2, 3), l);
+
+        l.sort(Comparator.reverseOrder());
+        assertEquals(List.of(3, 2, 1), l);
+    }
+
+    @Test
+    void SortingInvalidatesIterators(){
+        var l = new ArrayList<Integer>();
+        l.add(2);
+        l.add(1);
+
+        var iterator = l.iterator();
+        l.sort(null);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void SortingDoesNotAffectSnapshots(){
+        var l = new ArrayList<Integer>();
+        l.add(2);
+        l.add(1);
+
+        var snapshot = l.snapshot();
+        l.sort(null);
+
+        assertEquals(List.of(2, 1), snapshot);
+        assertEquals(List.of(1, 2), l);
+    }
+
+    @Test
+    void ReplacesAllElements(){
+        var l = new ArrayList<Integer>();
+        l.enableLookupIndex();
+        l.add(1);
+        l.add(2);
+
+        l.replaceAll(i -> i * 10);
+
+        assertEquals(List.of(10, 20), l);
+        assertEquals(1, l.indexOf(20));
+        assertEquals(-1, l.indexOf(2));
+    }
+
+    @Test
+    void RemovesElementsMatchingAPredicate(){
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 10; i++) {
+            l.add(i);
+        }
+
+        assertTrue(l.removeIf(i -> i % 2 == 0));
+        assertFalse(l.removeIf(i -> i % 2 == 0));
+
+        assertEquals(List.of(1, 3, 5, 7, 9), l);
+    }
+
+    @Test
+    void ParallelSortMatchesSequentialSort(){
+        var random = new Random(42);
+        var l = new ArrayList<Integer>();
+        var expected = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt();
+            l.add(value);
+            expected.add(value);
+        }
+
+        l.parallelSort(null);
+        expected.sort(null);
+
+        assertEquals(expected, l);
+    }
+
+    @Test
+    void ParallelReplaceAllReplacesEveryElement(){
+        for (int size : new int[]{ 5, 100000 }) {
+            var l = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++) {
+                l.add(i);
+            }
+
+            l.parallelReplaceAll(i -> i + 1);
+
+            assertEquals(size, l.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(i + 1, l.get(i));
+            }
+        }
+    }
+
+    @Test
+    void ParallelRemoveIfRemovesMatchingElements(){
+        for (int size : new int[]{ 5, 100001 }) {
+            var l = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++) {
+                l.add(i);
+            }
+
+            assertTrue(l.parallelRemoveIf(i -> i % 3 != 0));
+            assertFalse(l.parallelRemoveIf(i -> i % 3 != 0));
+
+            assertEquals((size + 2) / 3, l.size());
+            for (int i = 0; i < l.size(); i++) {
+                assertEquals(i * 3, l.get(i));
+            }
+        }
+    }
+
+    @Test
+    void ParallelRemoveIfLeavesTheListUntouchedWhenThePredicateThrows(){
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            l.add(i);
+        }
+
+        assertThrows(IllegalStateException.class, () -> l.parallelRemoveIf(i -> {
+            if (i == 99999) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+
+        assertEquals(100000, l.size());
+    }
+
+    @Test
+    void RemoveIfCountsAsASingleModification(){
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            l.add(i);
+        }
+        var before = l.changeOperationsCount();
+
+        assertTrue(l.removeIf(i -> i >= 10));
+
+        assertEquals(before + 1, l.changeOperationsCount());
+        assertEquals(10, l.size());
+    }
+
+    @Test
+    void RemoveIfAdjustsCapacityOnceAtTheEnd(){
+        var l = new ArrayList<Integer>(64);
+        for (int i = 0; i < 64; i++) {
+            l.add(i);
+        }
+
+        assertTrue(l.removeIf(i -> i > 0));
+
+        assertEquals(32, l.capacity());
+        assertEquals(List.of(0), l);
+    }
+
+    @Test
+    void RemoveIfLeavesTheListUntouchedWhenThePredicateThrows(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        l.add(2);
+        l.add(3);
+        var before = l.changeOperationsCount();
+
+        assertThrows(IllegalStateException.class, () -> l.removeIf(i -> {
+            if (i == 3) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+
+        assertEquals(List.of(1, 2, 3), l);
+        assertEquals(before, l.changeOperationsCount());
+    }
+
+    @Test
+    void RemoveIfThrowsWhenThePredicateModifiesTheList(){
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        l.add(2);
+
+        assertThrows(ConcurrentModificationException.class, () -> l.removeIf(i -> l.add(3)));
+    }
+
+    @Test
+    void ClearKeepsCapacityAndReleasesReferences(){
+        var pool = new RecordingStoragePool();
+        var l = new ArrayList<String>(4, CapacityPolicy.halving(), pool);
+        l.add("a");
+        l.add("b");
+
+        l.clear();
+
+        assertTrue(l.isEmpty());
+        assertEquals(4, l.capacity());
+        assertArrayEquals(new Object[4], pool.acquired);
+    }
+
+    @Test
+    void RemovalsReleaseReferencesInTheVacatedSlots(){
+        var pool = new RecordingStoragePool();
+        var l = new ArrayList<String>(8, CapacityPolicy.neverShrink(), pool);
+        for (var s : List.of("a", "b", "c", "d", "e")) {
+            l.add(s);
+        }
+
+        l.remove(0);
+        l.remove("b");
+        l.removeAll(List.of("c"));
+        l.removeIf("d"::equals);
+
+        assertEquals(List.of("e"), l);
+        assertArrayEquals(new Object[]{ "e", null, null, null, null, null, null, null }, pool.acquired);
+    }
+
+    @Test
+    void ClearReleasingStorageReturnsTheArrayToThePool(){
+        var pool = new BoundedStoragePool(1);
+        var l = new ArrayList<String>(16, CapacityPolicy.halving(), pool);
+        l.add("a");
+
+        l.clear(true);
+
+        assertTrue(l.isEmpty());
+        assertEquals(0, l.capacity());
+        assertEquals(1, pool.pooledCount(16));
+
+        var other = new ArrayList<String>(16, CapacityPolicy.halving(), pool);
+        assertEquals(0, pool.pooledCount(16));
+        other.add("b");
+        assertEquals(List.of("b"), other);
+
+        l.add("c");
+        assertEquals(List.of("c"), l);
+    }
+
+    @Test
+    void ResizingReturnsReplacedArraysToThePool(){
+        var pool = new BoundedStoragePool(1);
+        var l = new ArrayList<Integer>(2, CapacityPolicy.halving(), pool);
+        l.add(1);
+        l.add(2);
+
+        l.add(3);
+
+        assertEquals(4, l.capacity());
+        assertEquals(1, pool.pooledCount(2));
+    }
+
+    @Test
+    void ClearNeverReleasesStorageSharedWithASnapshot(){
+        var pool = new BoundedStoragePool(1);
+        var l = new ArrayList<String>(4, CapacityPolicy.halving(), pool);
+        l.add("a");
+        var snapshot = l.snapshot();
+
+        l.clear(true);
+        l.add("b");
+        l.clear();
+
+        assertEquals(0, pool.pooledCount(4));
+        assertEquals(List.of("a"), snapshot);
+    }
+
+    private static class RecordingStoragePool implements StoragePool {
+        Object[] acquired;
+
+        @Override
+        public Object[] acquire(int capacity) {
+            acquired = new Object[capacity];
+            return acquired;
+        }
+
+        @Override
+        public void release(Object[] array) {
+        }
+    }
+
+    @Test
+    void LastIndexOfFindsTheLastOccurrence(){
+        var l = new ArrayList<String>();
+        l.add("a");
+        l.add(null);
+        l.add("a");
+
+        assertEquals(2, l.lastIndexOf("a"));
+        assertEquals(1, l.lastIndexOf(null));
+        assertEquals(-1, l.lastIndexOf("b"));
+    }
+
+    private static ArrayList<Integer> rangeList(int size) {
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            l.add(i);
+        }
+        return l;
+    }
+
+    @Test
+    void SubListIsALiveViewOfARange(){
+        var l = rangeList(10);
+
+        var sub = l.subList(2, 5);
+
+        assertEquals(List.of(2, 3, 4), sub);
+        assertEquals(3, sub.get(1));
+
+        sub.set(1, 30);
+        assertEquals(30, l.get(3));
+
+        l.set(2, 20);
+        assertEquals(20, sub.get(0));
+    }
+
+    @Test
+    void SubListValidatesItsRange(){
+        var l = rangeList(3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.subList(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> l.subList(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.subList(0, 2).get(2));
+        assertEquals(List.of(), l.subList(3, 3));
+    }
+
+    @Test
+    void SubListClearRemovesTheRangeFromTheParent(){
+        var l = rangeList(10);
+        var before = l.changeOperationsCount();
+
+        l.subList(2, 8).clear();
+
+        assertEquals(List.of(0, 1, 8, 9), l);
+        assertEquals(before + 1, l.changeOperationsCount());
+    }
+
+    @Test
+    void SubListAddAndRemoveUpdateTheParent(){
+        var l = rangeList(5);
+        var sub = l.subList(1, 3);
+
+        sub.add(-1);
+        sub.add(0, -2);
+        assertEquals(List.of(-2, 1, 2, -1), sub);
+        assertEquals(List.of(0, -2, 1, 2, -1, 3, 4), l);
+
+        assertEquals(1, sub.remove(1));
+        assertTrue(sub.remove((Object) (-1)));
+        assertEquals(List.of(-2, 2), sub);
+        assertEquals(List.of(0, -2, 2, 3, 4), l);
+    }
+
+    @Test
+    void SubListSearchesOnlyItsRange(){
+        var l = new ArrayList<String>();
+        for (var s : List.of("a", "b", "a", "b", "a")) {
+            l.add(s);
+        }
+        var sub = l.subList(1, 4);
+
+        assertEquals(1, sub.indexOf("a"));
+        assertEquals(2, sub.lastIndexOf("b"));
+        assertEquals(-1, l.subList(1, 2).indexOf("a"));
+        assertFalse(l.subList(1, 2).contains("a"));
+    }
+
+    @Test
+    void SubListToArrayCopiesOnlyItsRange(){
+        var l = rangeList(6);
+        var sub = l.subList(2, 4);
+
+        assertArrayEquals(new Object[]{ 2, 3 }, sub.toArray());
+        assertArrayEquals(new Integer[]{ 2, 3 }, sub.toArray(new Integer[0]));
+        assertArrayEquals(new Integer[]{ 2, 3, null }, sub.toArray(new Integer[]{ 9, 9, 9 }));
+    }
+
+    @Test
+    void SubListSortsOnlyItsRange(){
+        var l = new ArrayList<Integer>();
+        for (int i : new int[]{ 5, 4, 3, 2, 1 }) {
+            l.add(i);
+        }
+
+        l.subList(1, 4).sort(null);
+
+        assertEquals(List.of(5, 2, 3, 4, 1), l);
+    }
+
+    @Test
+    void NestedSubListsPropagateChanges(){
+        var l = rangeList(10);
+        var outer = l.subList(2, 8);
+        var inner = outer.subList(1, 4);
+
+        inner.clear();
+
+        assertEquals(List.of(2, 6, 7), outer);
+        assertEquals(List.of(0, 1, 2, 6, 7, 8, 9), l);
+
+        inner.add(-1);
+        assertEquals(List.of(2, -1, 6, 7), outer);
+    }
+
+    @Test
+    void SubListFailsFastAfterTheParentChanges(){
+        var l = rangeList(5);
+        var sub = l.subList(1, 3);
+
+        l.add(5);
+
+        assertThrows(ConcurrentModificationException.class, sub::size);
+        assertThrows(ConcurrentModificationException.class, () -> sub.get(0));
+        assertThrows(ConcurrentModificationException.class, sub::clear);
+    }
+
+    @Test
+    void SubListIteratorFailsFastWhenTheViewChanges(){
+        var l = rangeList(5);
+        var sub = l.subList(1, 4);
+
+        var iterator = sub.iterator();
+        iterator.next();
+        sub.remove(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void ListIteratorTraversesInBothDirections(){
+        var l = rangeList(3);
+
+        var iterator = l.listIterator(1);
+        assertTrue(iterator.hasPrevious());
+        assertEquals(0, iterator.previousIndex());
+        assertEquals(1, iterator.nextIndex());
+
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertEquals(2, iterator.previous());
+        assertEquals(1, iterator.previous());
+        assertEquals(0, iterator.previous());
+        assertFalse(iterator.hasPrevious());
+        assertThrows(NoSuchElementException.class, iterator::previous);
+    }
+
+    @Test
+    void ListIteratorValidatesItsStartingIndex(){
+        var l = rangeList(3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.listIterator(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.listIterator(4));
+        assertFalse(l.listIterator(3).hasNext());
+    }
+
+    @Test
+    void ListIteratorEditsInPlace(){
+        var l = rangeList(6);
+
+        var iterator = l.listIterator();
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            if (value % 3 == 0) {
+                iterator.remove();
+            } else if (value % 3 == 1) {
+                iterator.set(value * 10);
+            } else {
+                iterator.add(-value);
+            }
+        }
+
+        assertEquals(List.of(10, 2, -2, 40, 5, -5), l);
+    }
+
+    @Test
+    void ListIteratorAddInsertsBeforeTheCursor(){
+        var l = rangeList(2);
+
+        var iterator = l.listIterator(1);
+        iterator.add(9);
+
+        assertEquals(9, iterator.previous());
+        assertEquals(List.of(0, 9, 1), l);
+    }
+
+    @Test
+    void ListIteratorRemoveAndSetRequireAPrecedingMove(){
+        var l = rangeList(2);
+
+        var iterator = l.listIterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertThrows(IllegalStateException.class, () -> iterator.set(1));
+
+        iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+
+        iterator.next();
+        iterator.add(5);
+        assertThrows(IllegalStateException.class, () -> iterator.set(1));
+    }
+
+    @Test
+    void ListIteratorFailsFastWhenTheListChangesElsewhere(){
+        var l = rangeList(3);
+
+        var iterator = l.listIterator();
+        iterator.next();
+        l.add(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, iterator::previous);
+        assertThrows(ConcurrentModificationException.class, iterator::remove);
+    }
+
+    @Test
+    void WorksWithJdkAlgorithmsThatNeedAListIterator(){
+        var l = rangeList(100);
+        var expected = new java.util.ArrayList<>(l);
+
+        Collections.reverse(l);
+        Collections.reverse(expected);
+        assertEquals(expected, l);
+
+        Collections.shuffle(l, new Random(7));
+        Collections.shuffle(expected, new Random(7));
+        assertEquals(expected, l);
+    }
+
+    private static ArrayList<Integer> instrumentedList(int initialCapacity, ArrayListMetrics metrics) {
+        return new ArrayList<>(initialCapacity, CapacityPolicy.halving(), StoragePool.none(), metrics);
+    }
+
+    @Test
+    void ReportsResizesToMetrics(){
+        var counters = new ArrayListCounters();
+        var l = instrumentedList(2, counters);
+
+        for (int i = 0; i < 5; i++) {
+            l.add(i);
+        }
+        assertEquals(2, counters.growCount());
+        assertEquals(2 + 4, counters.copiedElements());
+
+        while (l.size() > 1) {
+            l.remove(0);
+        }
+        assertTrue(counters.shrinkCount() > 0);
+    }
+
+    @Test
+    void ReportsScanLengthsToMetrics(){
+        var counters = new ArrayListCounters();
+        var l = instrumentedList(10, counters);
+        for (int i = 0; i < 8; i++) {
+            l.add(i);
+        }
+
+        l.indexOf(0);
+        l.indexOf(5);
+        l.contains(-1);
+        l.lastIndexOf(7);
+
+        assertEquals(4, counters.scanCount());
+        assertEquals(1 + 6 + 8 + 1, counters.scannedElements());
+
+        var histogram = counters.scanLengthHistogram();
+        assertEquals(2, histogram[ArrayListCounters.bucketOf(1)]);
+        assertEquals(1, histogram[ArrayListCounters.bucketOf(6)]);
+        assertEquals(1, histogram[ArrayListCounters.bucketOf(8)]);
+    }
+
+    @Test
+    void ReportsConcurrentModificationsToMetrics(){
+        var counters = new ArrayListCounters();
+        var l = instrumentedList(10, counters);
+        l.add(1);
+
+        var iterator = l.iterator();
+        var listIterator = l.listIterator();
+        var spliterator = l.spliterator();
+        spliterator.estimateSize();
+        l.add(2);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, listIterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(i -> {}));
+        assertThrows(ConcurrentModificationException.class, () -> l.forEach(i -> l.add(3)));
+
+        assertEquals(4, counters.concurrentModificationCount());
+    }
+
+    private static ArrayList<String> pooledList(StoragePool pool, String... elements) {
+        var l = new ArrayList<String>(8, CapacityPolicy.neverShrink(), pool);
+        for (var e : elements) {
+            l.add(e);
+        }
+        return l;
+    }
+
+    @Test
+    void OpenIteratorsNeverReadArraysRecycledToAnotherList(){
+        var pool = StoragePool.bounded(4);
+        var l = pooledList(pool, "a", "b", "c");
+
+        var iterator = l.iterator();
+        assertEquals("a", iterator.next());
+        l.trimToSize();
+        var other = pooledList(pool, "X", "Y", "Z");
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertEquals(List.of("X", "Y", "Z"), other);
+    }
+
+    @Test
+    void ForEachNeverPassesRecycledSlotsToTheAction(){
+        var pool = StoragePool.bounded(4);
+        var l = pooledList(pool, "a", "b", "c");
+
+        var seen = new java.util.ArrayList<String>();
+        assertThrows(ConcurrentModificationException.class, () -> l.forEach(e -> {
+            seen.add(e);
+            l.trimToSize();
+        }));
+
+        assertEquals(List.of("a"), seen);
+    }
+
+    @Test
+    void SpliteratorsNeverReadRecycledSlots(){
+        var pool = StoragePool.bounded(4);
+        var l = pooledList(pool, "a", "b", "c");
+
+        var seen = new java.util.ArrayList<String>();
+        assertThrows(ConcurrentModificationException.class, () -> l.spliterator().forEachRemaining(e -> {
+            seen.add(e);
+            l.trimToSize();
+            pooledList(pool, "X", "Y", "Z");
+        }));
+
+        assertEquals(List.of("a"), seen);
+    }
+
+    @Test
+    void BulkOperationsKeepTheirArrayOutOfThePoolWhileRunningCallerCode(){
+        var pool = StoragePool.bounded(4);
+        var l = pooledList(pool, "a", "b", "c");
+        var others = new java.util.ArrayList<ArrayList<String>>();
+
+        assertThrows(ConcurrentModificationException.class, () -> l.replaceAll(e -> {
+            l.trimToSize();
+            others.add(pooledList(pool, "X", "Y", "Z"));
+            return e.toUpperCase();
+        }));
+        assertThrows(ConcurrentModificationException.class, () -> l.removeIf(e -> {
+            l.ensureCapacity(100);
+            others.add(pooledList(pool, "X", "Y", "Z"));
+            return true;
+        }));
+        assertThrows(ConcurrentModificationException.class, () -> l.sort((x, y) -> {
+            l.trimToSize();
+            others.add(pooledList(pool, "X", "Y", "Z"));
+            return x.compareTo(y);
+        }));
+
+        for (var other : others) {
+            assertEquals(List.of("X", "Y", "Z"), other);
+        }
+    }
 }
@@ -0,0 +1,247 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryListFormatTest {
+    @TempDir
+    Path folder;
+
+    private static <T> byte[] write(ArrayList<T> l, FixedWidthCodec<T> codec, boolean compressRuns) throws IOException {
+        var out = new ByteArrayOutputStream();
+        l.writeTo(Channels.newChannel(out), codec, compressRuns);
+        return out.toByteArray();
+    }
+
+    private static <T> ArrayList<T> read(byte[] bytes, FixedWidthCodec<T> codec) throws IOException {
+        return ArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)), codec);
+    }
+
+    @Test
+    void RoundTripsAnEmptyList() throws IOException {
+        var bytes = write(new ArrayList<Integer>(), FixedWidthCodec.ints(), false);
+
+        assertEquals(BinaryListFormat.HEADER_SIZE, bytes.length);
+
+        var l = read(bytes, FixedWidthCodec.ints());
+        assertTrue(l.isEmpty());
+        assertEquals(0, l.capacity());
+    }
+
+    @Test
+    void RoundTripsElementsAndNulls() throws IOException {
+        var l = new ArrayList<Long>();
+        l.add(1L);
+        l.add(null);
+        l.add(-3L);
+
+        var bytes = write(l, FixedWidthCodec.longs(), false);
+
+        assertEquals(BinaryListFormat.HEADER_SIZE + 1 + Long.BYTES + 1 + 1 + Long.BYTES, bytes.length);
+        assertEquals(l, read(bytes, FixedWidthCodec.longs()));
+    }
+
+    @Test
+    void SizesTheBackingArrayFromTheHeader() throws IOException {
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            l.add(i);
+        }
+
+        var result = read(write(l, FixedWidthCodec.ints(), false), FixedWidthCodec.ints());
+
+        assertEquals(l, result);
+        assertEquals(1000, result.capacity());
+    }
+
+    @Test
+    void CompressesRunsOfEqualElements() throws IOException {
+        var l = new ArrayList<Double>();
+        for (int i = 0; i < 1000; i++) {
+            l.add(i < 600 ? 0.5 : null);
+        }
+        l.add(2.0);
+
+        var plain = write(l, FixedWidthCodec.doubles(), false);
+        var compressed = write(l, FixedWidthCodec.doubles(), true);
+
+        assertEquals(BinaryListFormat.HEADER_SIZE + 3 * (Integer.BYTES + 1) + 2 * Double.BYTES, compressed.length);
+        assertTrue(compressed.length < plain.length);
+        assertEquals(l, read(compressed, FixedWidthCodec.doubles()));
+    }
+
+    @Test
+    void StreamsListsLargerThanTheBuffer() throws IOException {
+        var file = folder.resolve("list.bin");
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            l.add(i / 3);
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            l.writeTo(channel, FixedWidthCodec.ints());
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(l, ArrayList.readFrom(channel, FixedWidthCodec.ints()));
+        }
+    }
+
+    @Test
+    void ReadsFromChannelsThatReturnFewBytesAtATime() throws IOException {
+        var l = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            l.add(i % 4 == 0 ? null : i);
+        }
+        var bytes = write(l, FixedWidthCodec.ints(), true);
+
+        var result = ArrayList.readFrom(oneByteAtATime(bytes), FixedWidthCodec.ints());
+
+        assertEquals(l, result);
+    }
+
+    @Test
+    void RejectsDataThatIsNotAList() {
+        var bytes = new byte[BinaryListFormat.HEADER_SIZE];
+
+        var e = assertThrows(IOException.class, () -> read(bytes, FixedWidthCodec.ints()));
+        assertEquals("channel does not contain a list", e.getMessage());
+    }
+
+    @Test
+    void RejectsListsWrittenWithADifferentCodecWidth() throws IOException {
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        var bytes = write(l, FixedWidthCodec.ints(), false);
+
+        var e = assertThrows(IOException.class, () -> read(bytes, FixedWidthCodec.longs()));
+        assertEquals("list was written with a codec of width 4", e.getMessage());
+    }
+
+    @Test
+    void RejectsUnsupportedVersions() throws IOException {
+        var bytes = write(new ArrayList<Integer>(), FixedWidthCodec.ints(), false);
+        bytes[4] = 99;
+
+        var e = assertThrows(IOException.class, () -> read(bytes, FixedWidthCodec.ints()));
+        assertEquals("unsupported list version 99", e.getMessage());
+    }
+
+    @Test
+    void RejectsTruncatedLists() throws IOException {
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        l.add(2);
+        var bytes = write(l, FixedWidthCodec.ints(), false);
+
+        var truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThrows(EOFException.class, () -> read(truncated, FixedWidthCodec.ints()));
+    }
+
+    @Test
+    void RejectsRunsLongerThanTheList() throws IOException {
+        var l = new ArrayList<Integer>();
+        l.add(1);
+        var bytes = write(l, FixedWidthCodec.ints(), true);
+        ByteBuffer.wrap(bytes).putInt(BinaryListFormat.HEADER_SIZE, 2);
+
+        var e = assertThrows(IOException.class, () -> read(bytes, FixedWidthCodec.ints()));
+        assertEquals("list is corrupted, invalid run length 2", e.getMessage());
+    }
+
+    @Test
+    void ReadListsCanKeepGrowing() throws IOException {
+        var l = new ArrayList<Integer>();
+        l.add(1);
+
+        var result = read(write(l, FixedWidthCodec.ints(), false), FixedWidthCodec.ints());
+        result.add(2);
+
+        assertEquals(List.of(1, 2), result);
+    }
+
+    private static ReadableByteChannel oneByteAtATime(byte[] bytes) {
+        var source = ByteBuffer.wrap(bytes);
+
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) {
+                if (!source.hasRemaining()) {
+                    return -1;
+                }
+
+                dst.put(source.get());
+                return 1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static byte[] headerWithSize(int size, byte flags) {
+        return ByteBuffer.allocate(BinaryListFormat.HEADER_SIZE)
+                .putInt(BinaryListFormat.MAGIC)
+                .put(BinaryListFormat.VERSION)
+                .put(flags)
+                .putInt(Integer.BYTES)
+                .putInt(size)
+                .array();
+    }
+
+    @Test
+    void HugeCountsFollowedByEndOfStreamRaiseEOFException() {
+        var plain = headerWithSize(Integer.MAX_VALUE - 8, (byte) 0);
+        var compressed = headerWithSize(Integer.MAX_VALUE - 8, BinaryListFormat.RUN_LENGTH);
+
+        assertThrows(EOFException.class, () -> read(plain, FixedWidthCodec.ints()));
+        assertThrows(EOFException.class, () -> read(compressed, FixedWidthCodec.ints()));
+    }
+
+    @Test
+    void RejectsCountsLargerThanTheRemainingFileBytes() throws IOException {
+        var file = folder.resolve("forged.bin");
+        java.nio.file.Files.write(file, headerWithSize(Integer.MAX_VALUE - 8, (byte) 0));
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var e = assertThrows(IOException.class, () -> ArrayList.readFrom(channel, FixedWidthCodec.ints()));
+            assertEquals("list is corrupted, 2147483639 elements cannot fit in 0 bytes", e.getMessage());
+        }
+    }
+
+    @Test
+    void ReadsListsLargerThanTheUnverifiedAllocation() throws IOException {
+        int size = BinaryListFormat.MAX_UNVERIFIED_ALLOCATION * 2 + 3;
+        var l = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            l.add(i / 1000);
+        }
+
+        var result = read(write(l, FixedWidthCodec.ints(), true), FixedWidthCodec.ints());
+
+        assertEquals(l, result);
+        assertEquals(size, result.capacity());
+    }
+}
@@ -0,0 +1,67 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedStoragePoolTest {
+    @Test
+    void AllocatesWhenEmpty(){
+        var pool = new BoundedStoragePool(2);
+
+        var array = pool.acquire(8);
+
+        assertEquals(8, array.length);
+    }
+
+    @Test
+    void ReusesReleasedArraysOfTheSameLength(){
+        var pool = new BoundedStoragePool(2);
+        var array = pool.acquire(8);
+
+        pool.release(array);
+
+        assertNotSame(array, pool.acquire(4));
+        assertSame(array, pool.acquire(8));
+        assertNotSame(array, pool.acquire(8));
+    }
+
+    @Test
+    void ClearsArraysWhenReleased(){
+        var pool = new BoundedStoragePool(1);
+        var array = pool.acquire(2);
+        array[0] = "a";
+        array[1] = "b";
+
+        pool.release(array);
+
+        assertArrayEquals(new Object[]{ null, null }, pool.acquire(2));
+    }
+
+    @Test
+    void KeepsAtMostTheConfiguredNumberOfArraysPerLength(){
+        var pool = new BoundedStoragePool(2);
+
+        pool.release(new Object[4]);
+        pool.release(new Object[4]);
+        pool.release(new Object[4]);
+        pool.release(new Object[8]);
+
+        assertEquals(2, pool.pooledCount(4));
+        assertEquals(1, pool.pooledCount(8));
+    }
+
+    @Test
+    void NonePoolNeverKeepsArrays(){
+        var array = new Object[4];
+
+        StoragePool.none().release(array);
+
+        assertNotSame(array, StoragePool.none().acquire(4));
+    }
+
+    @Test
+    void MaxArraysPerCapacityCannotBeNegative(){
+        assertThrows(IllegalArgumentException.class, () -> new BoundedStoragePool(-1));
+    }
+}
@@ -0,0 +1,159 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentArrayListTest {
+    @Test
+    void EmptyByDefault() {
+        var l = new ConcurrentArrayList<String>();
+
+        assertTrue(l.isEmpty());
+        assertEquals(0, l.size());
+    }
+
+    @Test
+    void CapacityCannotBeNegative(){
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentArrayList<>(-1));
+    }
+
+    @Test
+    void SupportsTheBasicListOperations(){
+        var l = new ConcurrentArrayList<String>(0);
+        l.add("1");
+        l.add(null);
+        l.add("3");
+
+        assertEquals(3, l.size());
+        assertEquals("1", l.get(0));
+        assertEquals(1, l.indexOf(null));
+        assertTrue(l.contains("3"));
+        assertEquals("3", l.set(2, "4"));
+
+        assertTrue(l.remove(null));
+        assertFalse(l.remove("x"));
+        assertEquals("1", l.remove(0));
+        assertArrayEquals(new Object[]{"4"}, l.toArray());
+
+        l.clear();
+        assertTrue(l.isEmpty());
+    }
+
+    @Test
+    void ThrowsIndexOutOfBoundsExceptionWhenPositionIsInvalid(){
+        var l = new ConcurrentArrayList<String>();
+        l.add("1");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.set(1, "1"));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.remove(1));
+    }
+
+    @Test
+    void IteratorsDoNotSeeLaterModifications(){
+        var l = new ConcurrentArrayList<String>();
+        l.add("1");
+        l.add("2");
+
+        var count = new int[]{0};
+        l.forEach(i -> {
+            l.add("3");
+            l.remove("2");
+            count[0]++;
+        });
+
+        assertEquals(2, count[0]);
+        assertArrayEquals(new Object[]{"1", "3", "3"}, l.toArray());
+    }
+
+    @Test
+    void IteratorsDoNotSeeLaterSets(){
+        var l = new ConcurrentArrayList<String>();
+        l.add("1");
+        l.add("2");
+
+        var iterator = l.iterator();
+        assertEquals("1", iterator.next());
+        l.set(1, "3");
+
+        assertEquals("2", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals("3", l.get(1));
+    }
+
+    @Test
+    void IsThreadSafe() throws InterruptedException {
+        var source = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            source.add(i);
+        }
+        int threadCount = 3;
+
+        var l = new ConcurrentArrayList<Integer>();
+        var threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> source.forEach(l::add));
+        }
+
+        var done = new AtomicBoolean(false);
+        var failed = new AtomicBoolean(false);
+        var reader = new Thread(() -> {
+            while (!done.get()) {
+                int size = l.size();
+                if (size > 0 && l.get(size - 1) == null) {
+                    failed.set(true);
+                }
+                l.contains(-1);
+            }
+        });
+
+        reader.start();
+        for (var t : threads) {
+            t.start();
+        }
+        for (var t : threads) {
+            t.join(10000);
+        }
+        done.set(true);
+        reader.join(10000);
+
+        assertEquals(threadCount * source.size(), l.size());
+        assertFalse(failed.get());
+    }
+
+    @Test
+    void RetriesUnderTheLockWhenEqualsFailsDuringARacingWrite(){
+        var l = new ConcurrentArrayList<Object>();
+        var removed = new AtomicBoolean(false);
+        var stale = new Object() {
+            @Override
+            public boolean equals(Object o) {
+                if (removed.compareAndSet(false, true)) {
+                    l.remove(0);
+                }
+                throw new IllegalStateException("compared after removal");
+            }
+        };
+        l.add(stale);
+        l.add("a");
+
+        assertEquals(0, l.indexOf("a"));
+    }
+
+    @Test
+    void PropagatesExceptionsFromEqualsWhenNoWriteRaced(){
+        var l = new ConcurrentArrayList<Object>();
+        l.add(new Object() {
+            @Override
+            public boolean equals(Object o) {
+                throw new IllegalStateException();
+            }
+        });
+
+        assertThrows(IllegalStateException.class, () -> l.indexOf("a"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleArrayListTest {
+    @Test
+    void AddsAndReadsElementsWithoutBoxing(){
+        var l = new DoubleArrayList();
+        l.addDouble(1.5);
+        l.addDouble(-2.25);
+
+        assertEquals(2, l.size());
+        assertEquals(1.5, l.getDouble(0));
+        assertEquals(-2.25, l.getDouble(1));
+    }
+
+    @Test
+    void SearchesUsingDoubleEquality(){
+        var l = new DoubleArrayList();
+        l.addDouble(0.0);
+        l.addDouble(Double.NaN);
+
+        assertEquals(1, l.indexOf(Double.NaN));
+        assertEquals(-1, l.indexOf(-0.0));
+        assertTrue(l.contains(0.0));
+    }
+
+    @Test
+    void CannotClearWhileIterating(){
+        var l = new DoubleArrayList();
+        l.addDouble(1);
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            l.iterator().forEachRemaining((double d) -> l.clear());
+        });
+    }
+}
@@ -0,0 +1,192 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GapBufferListTest {
+    @Test
+    void EmptyByDefault() {
+        var l = new GapBufferList<String>();
+
+        assertTrue(l.isEmpty());
+        assertEquals(10, l.capacity());
+    }
+
+    @Test
+    void CapacityCannotBeNegative(){
+        assertThrows(IllegalArgumentException.class, () -> new GapBufferList<>(-1));
+    }
+
+    @Test
+    void AppendsAndInsertsElements(){
+        var l = new GapBufferList<String>(0);
+        l.add("a");
+        l.add("d");
+        l.add(1, "b");
+        l.add(2, "c");
+
+        assertEquals(List.of("a", "b", "c", "d"), l);
+        assertEquals(3, l.gapPosition());
+    }
+
+    @Test
+    void ConsecutiveEditsKeepTheGapAtTheCursor(){
+        var l = new GapBufferList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            l.add(i);
+        }
+
+        l.add(50, -1);
+        l.add(51, -2);
+        assertEquals(52, l.gapPosition());
+
+        assertEquals(-2, l.remove(51));
+        assertEquals(51, l.gapPosition());
+        assertEquals(-1, l.remove(50));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, l.get(i));
+        }
+    }
+
+    @Test
+    void BehavesLikeAnArrayList(){
+        var random = new Random(42);
+        var expected = new java.util.ArrayList<Integer>();
+        var l = new GapBufferList<Integer>(1);
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                l.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), l.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), l.set(index, -i));
+            }
+        }
+
+        assertEquals(expected, l);
+        assertArrayEquals(expected.toArray(), l.toArray());
+        assertEquals(expected.hashCode(), l.hashCode());
+        assertEquals(expected.indexOf(-10), l.indexOf(-10));
+    }
+
+    @Test
+    void SearchesAcrossTheGap(){
+        var l = new GapBufferList<String>();
+        l.add("a");
+        l.add(null);
+        l.add("c");
+        l.add(1, "b");
+
+        assertEquals(0, l.indexOf("a"));
+        assertEquals(2, l.indexOf(null));
+        assertEquals(3, l.indexOf("c"));
+        assertEquals(-1, l.indexOf("x"));
+    }
+
+    @Test
+    void ClearsTheList(){
+        var l = new GapBufferList<String>();
+        l.add("a");
+        l.add("b");
+
+        l.clear();
+
+        assertTrue(l.isEmpty());
+        l.add("c");
+        assertEquals(List.of("c"), l);
+    }
+
+    @Test
+    void ThrowsIndexOutOfBoundsExceptionWhenPositionIsInvalid(){
+        var l = new GapBufferList<String>();
+        l.add("a");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.set(-1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.add(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.remove(1));
+    }
+
+    @Test
+    void CannotAddWhileIterating(){
+        var l = new GapBufferList<String>();
+        l.add("1");
+        l.add("2");
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (var i : l) {
+                l.add(0, i);
+            }
+        });
+    }
+
+    @Test
+    void ReleasesCapacityWhenDrained(){
+        var l = new GapBufferList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            l.add(i);
+        }
+        assertTrue(l.capacity() >= 10000);
+
+        while (l.size() > 3) {
+            l.remove(l.size() / 2);
+        }
+
+        assertTrue(l.capacity() < 16, "capacity " + l.capacity());
+        assertEquals(List.of(0, 1, 9999), l);
+    }
+
+    @Test
+    void ReleasesCapacityAfterRemovingARange(){
+        var l = new GapBufferList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            l.add(i);
+        }
+
+        l.subList(10, 990).clear();
+
+        assertTrue(l.capacity() < 64, "capacity " + l.capacity());
+        assertEquals(20, l.size());
+        assertEquals(9, l.get(9));
+        assertEquals(990, l.get(10));
+        assertEquals(999, l.get(19));
+    }
+
+    @Test
+    void ReleasesCapacityWhenCleared(){
+        var l = new GapBufferList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            l.add(i);
+        }
+
+        l.clear();
+
+        assertTrue(l.isEmpty());
+        assertTrue(l.capacity() <= 1, "capacity " + l.capacity());
+    }
+
+    @Test
+    void NeverShrinkPolicyKeepsTheCapacity(){
+        var l = new GapBufferList<Integer>(8, CapacityPolicy.neverShrink());
+        for (int i = 0; i < 1000; i++) {
+            l.add(i);
+        }
+        int capacity = l.capacity();
+
+        l.clear();
+
+        assertEquals(capacity, l.capacity());
+    }
+}
@@ -0,0 +1,43 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeometricCapacityPolicyTest {
+    @Test
+    void RejectsInvalidArguments(){
+        assertThrows(IllegalArgumentException.class, () -> new GeometricCapacityPolicy(1.0, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GeometricCapacityPolicy(Double.NaN, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GeometricCapacityPolicy(2.0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GeometricCapacityPolicy(2.0, 2, -1));
+    }
+
+    @Test
+    void GrowsToAtLeastTheRequiredCapacity(){
+        var policy = CapacityPolicy.halving();
+
+        assertEquals(1, policy.grow(0, 1));
+        assertEquals(8, policy.grow(4, 5));
+        assertEquals(100, policy.grow(4, 100));
+    }
+
+    @Test
+    void GrowthIsCappedBeforeOverflowing(){
+        var policy = CapacityPolicy.halving();
+
+        assertEquals(Integer.MAX_VALUE - 8, policy.grow(Integer.MAX_VALUE - 100, Integer.MAX_VALUE - 99));
+        assertThrows(OutOfMemoryError.class, () -> policy.grow(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    }
+
+    @Test
+    void ShrinksAccordingToTheDivisor(){
+        assertEquals(4, CapacityPolicy.halving().shrink(8, 3));
+        assertEquals(8, CapacityPolicy.halving().shrink(8, 4));
+
+        assertEquals(8, CapacityPolicy.withHysteresis().shrink(8, 2));
+        assertEquals(4, CapacityPolicy.withHysteresis().shrink(8, 1));
+
+        assertEquals(8, CapacityPolicy.neverShrink().shrink(8, 0));
+    }
+}
@@ -0,0 +1,153 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntArrayListTest {
+    @Test
+    void EmptyByDefault() {
+        var l = new IntArrayList();
+
+        assertTrue(l.isEmpty());
+        assertEquals(0, l.size());
+        assertEquals(10, l.capacity());
+    }
+
+    @Test
+    void CapacityCannotBeNegative(){
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+    }
+
+    @Test
+    void AddsAndReadsElementsWithoutBoxing(){
+        var l = new IntArrayList();
+
+        assertTrue(l.addInt(3));
+        assertTrue(l.addInt(5));
+
+        assertEquals(2, l.size());
+        assertEquals(3, l.getInt(0));
+        assertEquals(5, l.getInt(1));
+    }
+
+    @Test
+    void CapacityIsDoubled() {
+        var l = new IntArrayList(0);
+
+        l.addInt(1);
+        assertEquals(1, l.capacity());
+
+        l.addInt(1);
+        assertEquals(2, l.capacity());
+
+        l.addInt(1);
+        assertEquals(4, l.capacity());
+    }
+
+    @Test
+    void SetChangesTheElementAtTheSpecifiedPosition(){
+        var l = new IntArrayList();
+        l.addInt(1);
+        l.addInt(2);
+
+        assertEquals(1, l.setInt(0, 10));
+        assertArrayEquals(new int[]{10, 2}, l.toArray());
+    }
+
+    @Test
+    void ThrowsIndexOutOfBoundsExceptionWhenPositionIsInvalid(){
+        var l = new IntArrayList();
+        l.addInt(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.getInt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.getInt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.setInt(1, 0));
+    }
+
+    @Test
+    void SearchesElements(){
+        var l = new IntArrayList();
+        l.addInt(4);
+        l.addInt(7);
+        l.addInt(7);
+
+        assertEquals(1, l.indexOf(7));
+        assertEquals(-1, l.indexOf(8));
+        assertTrue(l.contains(4));
+        assertFalse(l.contains(5));
+    }
+
+    @Test
+    void RemoveDeletesTheFirstOccurrenceAndReducesCapacity(){
+        var l = new IntArrayList(4);
+        l.addInt(1);
+        l.addInt(2);
+        l.addInt(3);
+
+        assertFalse(l.removeInt(9));
+
+        assertTrue(l.removeInt(1));
+        assertArrayEquals(new int[]{2, 3}, l.toArray());
+        assertEquals(4, l.capacity());
+
+        assertTrue(l.removeInt(3));
+        assertArrayEquals(new int[]{2}, l.toArray());
+        assertEquals(2, l.capacity());
+    }
+
+    @Test
+    void ClearsTheList(){
+        var l = new IntArrayList();
+        l.addInt(1);
+
+        l.clear();
+
+        assertTrue(l.isEmpty());
+    }
+
+    @Test
+    void CanIterate(){
+        var l = new IntArrayList();
+        l.addInt(1);
+        l.addInt(2);
+        l.addInt(3);
+
+        int sum = 0;
+        var iterator = l.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+
+        assertEquals(6, sum);
+    }
+
+    @Test
+    void CannotAddWhileIterating(){
+        var l = new IntArrayList();
+        l.addInt(1);
+        l.addInt(2);
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            l.iterator().forEachRemaining((int i) -> l.addInt(i));
+        });
+    }
+
+    @Test
+    void ListsWithTheSameElementsAreEqual(){
+        var l1 = new IntArrayList(100);
+        var l2 = new IntArrayList();
+        l1.addInt(1);
+        l1.addInt(2);
+        l2.addInt(1);
+        l2.addInt(2);
+
+        assertEquals(l1, l2);
+        assertEquals(l1.hashCode(), l2.hashCode());
+
+        l2.addInt(3);
+        assertNotEquals(l1, l2);
+    }
+}
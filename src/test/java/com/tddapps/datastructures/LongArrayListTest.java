@@ -0,0 +1,46 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongArrayListTest {
+    @Test
+    void AddsAndReadsElementsWithoutBoxing(){
+        var l = new LongArrayList(0);
+
+        for (long i = 0; i < 100; i++) {
+            assertTrue(l.addLong(Long.MAX_VALUE - i));
+        }
+
+        assertEquals(100, l.size());
+        assertEquals(128, l.capacity());
+        assertEquals(Long.MAX_VALUE, l.getLong(0));
+        assertEquals(Long.MAX_VALUE - 99, l.getLong(99));
+        assertEquals(42, l.indexOf(Long.MAX_VALUE - 42));
+    }
+
+    @Test
+    void RemoveDeletesTheFirstOccurrence(){
+        var l = new LongArrayList();
+        l.addLong(1);
+        l.addLong(2);
+        l.addLong(1);
+
+        assertTrue(l.removeLong(1));
+        assertArrayEquals(new long[]{2, 1}, l.toArray());
+    }
+
+    @Test
+    void CannotRemoveWhileIterating(){
+        var l = new LongArrayList();
+        l.addLong(1);
+        l.addLong(2);
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            l.iterator().forEachRemaining((long i) -> l.removeLong(i));
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedArrayListTest {
+    @TempDir
+    Path folder;
+
+    @Test
+    void CreatesAnEmptyListWhenTheFileDoesNotExist() throws IOException {
+        try (var l = MappedArrayList.open(folder.resolve("list.bin"), FixedWidthCodec.ints())) {
+            assertTrue(l.isEmpty());
+            assertEquals(10, l.capacity());
+        }
+    }
+
+    @Test
+    void ElementsAreAvailableAfterReopening() throws IOException {
+        var file = folder.resolve("list.bin");
+
+        try (var l = MappedArrayList.open(file, FixedWidthCodec.longs())) {
+            for (long i = 0; i < 100; i++) {
+                l.add(i * 3);
+            }
+            l.set(0, -1L);
+            l.force();
+        }
+
+        try (var l = MappedArrayList.open(file, FixedWidthCodec.longs())) {
+            assertEquals(100, l.size());
+            assertEquals(160, l.capacity());
+            assertEquals(-1L, l.get(0));
+            assertEquals(297L, l.get(99));
+            assertEquals(10, l.indexOf(30L));
+
+            l.add(1000L);
+            assertEquals(101, l.size());
+        }
+    }
+
+    @Test
+    void ClearIsPersisted() throws IOException {
+        var file = folder.resolve("list.bin");
+
+        try (var l = MappedArrayList.open(file, FixedWidthCodec.ints())) {
+            l.add(1);
+            l.clear();
+        }
+
+        try (var l = MappedArrayList.open(file, FixedWidthCodec.ints())) {
+            assertTrue(l.isEmpty());
+        }
+    }
+
+    @Test
+    void RejectsFilesWrittenWithADifferentCodecWidth() throws IOException {
+        var file = folder.resolve("list.bin");
+
+        try (var l = MappedArrayList.open(file, FixedWidthCodec.ints())) {
+            l.add(1);
+        }
+
+        assertThrows(IOException.class, () -> MappedArrayList.open(file, FixedWidthCodec.longs()));
+    }
+
+    @Test
+    void RejectsFilesThatAreNotLists() throws IOException {
+        var file = folder.resolve("other.bin");
+        Files.write(file, ByteBuffer.allocate(64).putInt(42).array());
+
+        assertThrows(IOException.class, () -> MappedArrayList.open(file, FixedWidthCodec.ints()));
+    }
+
+    @Test
+    void CannotAddWhileIterating() throws IOException {
+        try (var l = MappedArrayList.open(folder.resolve("list.bin"), FixedWidthCodec.ints())) {
+            l.add(1);
+
+            assertThrows(ConcurrentModificationException.class, () -> l.forEach(l::add));
+        }
+    }
+
+    @Test
+    void CannotBeUsedAfterClosing() throws IOException {
+        var l = MappedArrayList.open(folder.resolve("list.bin"), FixedWidthCodec.ints());
+        l.close();
+
+        assertThrows(IllegalStateException.class, () -> l.add(1));
+    }
+}
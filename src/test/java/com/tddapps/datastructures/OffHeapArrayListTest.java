@@ -0,0 +1,94 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapArrayListTest {
+    @Test
+    void EmptyByDefault() {
+        try (var l = new OffHeapArrayList<>(FixedWidthCodec.ints())) {
+            assertTrue(l.isEmpty());
+            assertEquals(10, l.capacity());
+        }
+    }
+
+    @Test
+    void CapacityCannotBeNegative(){
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapArrayList<>(FixedWidthCodec.ints(), -1));
+    }
+
+    @Test
+    void StoresElementsThroughTheCodec(){
+        try (var l = new OffHeapArrayList<>(FixedWidthCodec.longs(), 0)) {
+            for (long i = 0; i < 1000; i++) {
+                assertTrue(l.add(i * i));
+            }
+
+            assertEquals(1000, l.size());
+            assertEquals(1024, l.capacity());
+            assertEquals(0L, l.get(0));
+            assertEquals(999L * 999L, l.get(999));
+            assertEquals(30, l.indexOf(900L));
+            assertFalse(l.contains(2L));
+        }
+    }
+
+    @Test
+    void SetChangesTheElementAtTheSpecifiedPosition(){
+        try (var l = new OffHeapArrayList<>(FixedWidthCodec.doubles())) {
+            l.add(1.0);
+            l.add(2.0);
+
+            assertEquals(2.0, l.set(1, 3.5));
+            assertEquals(3.5, l.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> l.set(2, 0.0));
+        }
+    }
+
+    @Test
+    void RejectsNulls(){
+        try (var l = new OffHeapArrayList<>(FixedWidthCodec.ints())) {
+            assertThrows(NullPointerException.class, () -> l.add(null));
+        }
+    }
+
+    @Test
+    void CanIterate(){
+        try (var l = new OffHeapArrayList<>(FixedWidthCodec.ints())) {
+            l.add(1);
+            l.add(2);
+            l.add(3);
+
+            int sum = 0;
+            for (int i : l) {
+                sum += i;
+            }
+
+            assertEquals(6, sum);
+        }
+    }
+
+    @Test
+    void CannotAddWhileIterating(){
+        try (var l = new OffHeapArrayList<>(FixedWidthCodec.ints())) {
+            l.add(1);
+
+            assertThrows(ConcurrentModificationException.class, () -> l.forEach(l::add));
+        }
+    }
+
+    @Test
+    void CannotBeUsedAfterClosing(){
+        var l = new OffHeapArrayList<>(FixedWidthCodec.ints());
+        l.add(1);
+
+        l.close();
+        l.close();
+
+        assertThrows(IllegalStateException.class, () -> l.get(0));
+        assertThrows(IllegalStateException.class, () -> l.add(1));
+    }
+}
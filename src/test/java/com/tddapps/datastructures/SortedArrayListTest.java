@@ -0,0 +1,139 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedArrayListTest {
+    @Test
+    void EmptyByDefault() {
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder());
+
+        assertTrue(l.isEmpty());
+        assertEquals(10, l.capacity());
+    }
+
+    @Test
+    void ComparatorIsRequired(){
+        assertThrows(NullPointerException.class, () -> new SortedArrayList<Integer>(null));
+    }
+
+    @Test
+    void KeepsElementsSorted(){
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder(), 0);
+        l.add(5);
+        l.add(1);
+        l.add(3);
+        l.add(3);
+
+        assertArrayEquals(new Object[]{1, 3, 3, 5}, l.toArray());
+        assertEquals(1, l.get(0));
+        assertEquals(5, l.get(3));
+    }
+
+    @Test
+    void FindsElementsWithBinarySearch(){
+        var l = new SortedArrayList<Integer>(Comparator.reverseOrder());
+        l.addAll(List.of(1, 7, 3, 7, 9));
+
+        assertArrayEquals(new Object[]{9, 7, 7, 3, 1}, l.toArray());
+        assertEquals(1, l.indexOf(7));
+        assertEquals(-1, l.indexOf(4));
+        assertTrue(l.contains(1));
+        assertFalse(l.contains(10));
+    }
+
+    @Test
+    void MergesBatchesIntoTheExistingElements(){
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder(), 2);
+        l.addAll(List.of(10, 30, 50));
+
+        assertTrue(l.addAll(List.of(60, 20, 0, 40, 30)));
+        assertFalse(l.addAll(List.of()));
+
+        assertArrayEquals(new Object[]{0, 10, 20, 30, 30, 40, 50, 60}, l.toArray());
+    }
+
+    @Test
+    void ElementsThatCompareAsEqualKeepTheirInsertionOrder(){
+        var l = new SortedArrayList<String>(Comparator.comparing(String::length));
+        l.add("bb");
+        l.add("aa");
+        l.addAll(List.of("cc", "d"));
+
+        assertArrayEquals(new Object[]{"d", "bb", "aa", "cc"}, l.toArray());
+    }
+
+    @Test
+    void RemovesElements(){
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder(), 4);
+        l.addAll(List.of(4, 2, 3));
+
+        assertTrue(l.remove(3));
+        assertFalse(l.remove(3));
+        assertEquals(4, l.removeAt(1));
+        assertArrayEquals(new Object[]{2}, l.toArray());
+        assertEquals(2, l.capacity());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.removeAt(1));
+    }
+
+    @Test
+    void BehavesLikeSortingAfterEveryBatch(){
+        var random = new Random(5);
+        var expected = new java.util.ArrayList<Integer>();
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder());
+
+        for (int i = 0; i < 200; i++) {
+            var batch = new java.util.ArrayList<Integer>();
+            for (int j = random.nextInt(20); j > 0; j--) {
+                batch.add(random.nextInt(1000));
+            }
+
+            expected.addAll(batch);
+            expected.sort(Comparator.naturalOrder());
+            l.addAll(batch);
+
+            if (random.nextBoolean() && !expected.isEmpty()) {
+                var value = expected.get(random.nextInt(expected.size()));
+                assertEquals(expected.remove(value), l.remove(value));
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), l.toArray());
+    }
+
+    @Test
+    void IteratorCanRemoveElements(){
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder());
+        l.addAll(List.of(1, 2, 3, 4, 5));
+
+        l.removeIf(i -> i % 2 == 0);
+
+        assertArrayEquals(new Object[]{1, 3, 5}, l.toArray());
+    }
+
+    @Test
+    void CannotAddWhileIterating(){
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder());
+        l.add(1);
+
+        assertThrows(ConcurrentModificationException.class, () -> l.forEach(l::add));
+    }
+
+    @Test
+    void ClearsTheList(){
+        var l = new SortedArrayList<Integer>(Comparator.naturalOrder());
+        l.add(1);
+
+        l.clear();
+
+        assertTrue(l.isEmpty());
+        assertFalse(l.contains(1));
+    }
+}
@@ -0,0 +1,216 @@
+package com.tddapps.datastructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TieredListTest {
+    @Test
+    void EmptyByDefault() {
+        var l = new TieredList<String>();
+
+        assertTrue(l.isEmpty());
+        assertEquals(0, l.blockCount());
+    }
+
+    @Test
+    void BlockCapacityMustHoldAtLeastTwoElements(){
+        assertThrows(IllegalArgumentException.class, () -> new TieredList<>(1));
+    }
+
+    @Test
+    void AppendsFillWholeBlocks(){
+        var l = new TieredList<Integer>(4);
+        for (int i = 0; i < 10; i++) {
+            l.add(i);
+        }
+
+        assertEquals(3, l.blockCount());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, l.get(i));
+        }
+    }
+
+    @Test
+    void InsertingIntoAFullBlockSplitsIt(){
+        var l = new TieredList<String>(4);
+        l.addAll(List.of("a", "b", "d", "e"));
+
+        l.add(2, "c");
+
+        assertEquals(2, l.blockCount());
+        assertEquals(List.of("a", "b", "c", "d", "e"), l);
+    }
+
+    @Test
+    void RemovingEveryElementOfABlockDropsIt(){
+        var l = new TieredList<Integer>(4);
+        for (int i = 0; i < 8; i++) {
+            l.add(i);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, l.remove(0));
+        }
+
+        assertEquals(1, l.blockCount());
+        assertEquals(List.of(4, 5, 6, 7), l);
+    }
+
+    @Test
+    void BehavesLikeAnArrayList(){
+        var random = new Random(7);
+        var expected = new java.util.ArrayList<Integer>();
+        var l = new TieredList<Integer>(8);
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(5);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                l.add(index, i);
+            } else if (operation == 2) {
+                expected.add(i);
+                l.add(i);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), l.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), l.set(index, -i));
+            }
+        }
+
+        assertEquals(expected, l);
+        assertArrayEquals(expected.toArray(), l.toArray());
+        assertEquals(expected.indexOf(expected.get(expected.size() / 2)), l.indexOf(expected.get(expected.size() / 2)));
+        assertEquals(-1, l.indexOf(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void ClearsTheList(){
+        var l = new TieredList<String>(2);
+        l.addAll(List.of("a", "b", "c"));
+
+        l.clear();
+
+        assertTrue(l.isEmpty());
+        assertEquals(0, l.blockCount());
+        l.add("d");
+        assertEquals(List.of("d"), l);
+    }
+
+    @Test
+    void ThrowsIndexOutOfBoundsExceptionWhenPositionIsInvalid(){
+        var l = new TieredList<String>();
+        l.add("a");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> l.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.set(-1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.add(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.remove(1));
+    }
+
+    @Test
+    void CannotRemoveWhileIterating(){
+        var l = new TieredList<String>();
+        l.add("1");
+        l.add("2");
+        l.add("3");
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (var i : l) {
+                l.remove(i);
+            }
+        });
+    }
+
+    @Test
+    void RemovalsFromLeftToRightCoalesceBlocks(){
+        var l = new TieredList<Integer>(8);
+        for (int i = 0; i < 8000; i++) {
+            l.add(i);
+        }
+
+        for (int i = 0; i < l.size(); i++) {
+            for (int j = 0; j < 7; j++) {
+                l.remove(i + 1);
+            }
+        }
+
+        assertEquals(1000, l.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 8, l.get(i));
+        }
+        assertTrue(l.blockCount() <= 4 * 1000 / 8 + 1, "block count " + l.blockCount());
+    }
+
+    @Test
+    void ScatteredRemovalsKeepTheBlockCountBounded(){
+        var random = new Random(11);
+        var l = new TieredList<Integer>(16);
+        var expected = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            l.add(index, i);
+            expected.add(index, i);
+        }
+
+        while (expected.size() > 500) {
+            int index = random.nextInt(expected.size());
+            assertEquals(expected.remove(index), l.remove(index));
+            assertTrue(l.blockCount() <= 4 * l.size() / 16 + 1, "block count " + l.blockCount());
+        }
+
+        assertEquals(expected, l);
+    }
+
+    @Test
+    void DefaultBlockCapacityFollowsTheSquareRootOfTheSize(){
+        var l = new TieredList<Integer>();
+        assertEquals(TieredList.MIN_ADAPTIVE_BLOCK_CAPACITY, l.blockCapacity());
+
+        for (int i = 0; i < 1_000_000; i++) {
+            l.add(i);
+        }
+        assertTrue(l.blockCapacity() >= 1000 && l.blockCapacity() <= 2048, "capacity " + l.blockCapacity());
+        assertTrue(l.blockCount() <= 2 * l.blockCapacity());
+
+        while (l.size() > 1000) {
+            l.remove(l.size() - 1);
+        }
+        assertTrue(l.blockCapacity() <= 256, "capacity " + l.blockCapacity());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, l.get(i));
+        }
+
+        l.clear();
+        assertEquals(TieredList.MIN_ADAPTIVE_BLOCK_CAPACITY, l.blockCapacity());
+    }
+
+    @Test
+    void AdaptiveListBehavesLikeAnArrayList(){
+        var random = new Random(3);
+        var expected = new java.util.ArrayList<Integer>();
+        var l = new TieredList<Integer>();
+
+        for (int i = 0; i < 60000; i++) {
+            int operation = random.nextInt(i < 40000 ? 4 : 8);
+            if (operation < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                l.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), l.remove(index));
+            }
+        }
+
+        assertEquals(expected, l);
+    }
+}